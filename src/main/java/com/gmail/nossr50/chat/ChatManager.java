@@ -16,9 +16,14 @@ import com.gmail.nossr50.util.text.StringUtils;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.TextComponent;
 import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
-//TODO: Micro optimization - Cache audiences and update cache when needed
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class ChatManager {
 
     private final @NotNull AdminChatMailer adminChatMailer;
@@ -26,6 +31,8 @@ public class ChatManager {
 
     private final @NotNull ConsoleAuthor consoleAuthor;
     private final @NotNull Audience consoleAudience;
+    // Players spying on party chat, read by async chat
+    private final @NotNull Map<UUID, McMMOPlayer> partyChatSpies = new ConcurrentHashMap<>();
 
     private final boolean isChatEnabled;
 
@@ -188,6 +195,51 @@ public class ChatManager {
         consoleAudience.sendMessage(author, message);
     }
 
+    /**
+     * Update the cached chat audiences for a player who joined or whose permissions may have changed
+     * @param player target player
+     */
+    public void refreshAudiences(@NotNull Player player) {
+        adminChatMailer.refreshAdmin(player);
+    }
+
+    /**
+     * Update the cached admin chat audience for every online player, picks up permission changes
+     */
+    public void refreshAudiences() {
+        adminChatMailer.refreshAdmins();
+    }
+
+    /**
+     * Remove a player who is leaving from the cached chat audiences
+     * @param player target player
+     */
+    public void removeFromAudiences(@NotNull Player player) {
+        adminChatMailer.removeAdmin(player);
+        partyChatSpies.remove(player.getUniqueId());
+    }
+
+    /**
+     * Start or stop relaying party chat to a player
+     * @param mmoPlayer target player
+     * @param spying whether the player is spying on party chat
+     */
+    public void setPartyChatSpy(@NotNull McMMOPlayer mmoPlayer, boolean spying) {
+        if(spying) {
+            partyChatSpies.put(mmoPlayer.getPlayer().getUniqueId(), mmoPlayer);
+        } else {
+            partyChatSpies.remove(mmoPlayer.getPlayer().getUniqueId());
+        }
+    }
+
+    /**
+     * Players spying on party chat, safe to use from any thread
+     * @return the party chat spies
+     */
+    public @NotNull Collection<McMMOPlayer> getPartyChatSpies() {
+        return partyChatSpies.values();
+    }
+
     /**
      * Whether the mcMMO chat system which handles party and admin chat is enabled or disabled
      * @return true if mcMMO chat processing (for party/admin chat) is enabled
@@ -14,9 +14,12 @@ import net.kyori.adventure.text.TextComponent;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.*;
 import java.util.function.Predicate;
 
 public class AdminChatMailer extends AbstractChatMailer {
@@ -27,13 +30,89 @@ public class AdminChatMailer extends AbstractChatMailer {
 
     public static final @NotNull String MCMMO_CHAT_ADMINCHAT_PERMISSION = "mcmmo.chat.adminchat";
 
+    // Online players passing the predicate, maintained on the main thread
+    private final @NotNull Map<UUID, Player> onlineAdmins = new HashMap<>();
+    // Snapshot of the admins, admin chat is sent off the main thread
+    private volatile @Nullable List<Player> adminCandidates;
+
     /**
-     * Constructs an audience of admins
+     * Constructs an audience of admins, the cached admins are only candidates and are checked against the predicate again
+     * so revoked permissions take effect right away
      *
      * @return an audience of admins
      */
     public @NotNull Audience constructAudience() {
-        return mcMMO.getAudiences().filter(predicate());
+        List<Player> candidates = adminCandidates;
+
+        if (candidates == null) {
+            return mcMMO.getAudiences().filter(predicate());
+        }
+
+        List<Audience> audiences = new ArrayList<>(candidates.size() + 1);
+
+        for (Player candidate : candidates) {
+            if (predicate().test(candidate)) {
+                audiences.add(mcMMO.getAudiences().player(candidate));
+            }
+        }
+
+        audiences.add(mcMMO.getAudiences().console());
+        return Audience.audience(audiences);
+    }
+
+    /**
+     * Check whether a player belongs in the admin audience, main thread only
+     *
+     * @param player target player
+     */
+    public void refreshAdmin(@NotNull Player player) {
+        boolean changed;
+
+        if (predicate().test(player)) {
+            changed = onlineAdmins.put(player.getUniqueId(), player) == null;
+        } else {
+            changed = onlineAdmins.remove(player.getUniqueId()) != null;
+        }
+
+        if (changed || adminCandidates == null) {
+            rebuildCandidates();
+        }
+    }
+
+    /**
+     * Remove a player from the admin audience, main thread only
+     *
+     * @param player target player
+     */
+    public void removeAdmin(@NotNull Player player) {
+        if (onlineAdmins.remove(player.getUniqueId()) != null) {
+            rebuildCandidates();
+        }
+    }
+
+    /**
+     * Check every online player against the predicate again, picks up newly granted permissions, main thread only
+     */
+    public void refreshAdmins() {
+        Set<UUID> admins = new HashSet<>();
+        boolean changed = adminCandidates == null;
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (predicate().test(player)) {
+                admins.add(player.getUniqueId());
+                changed |= onlineAdmins.put(player.getUniqueId(), player) == null;
+            }
+        }
+
+        changed |= onlineAdmins.keySet().retainAll(admins);
+
+        if (changed) {
+            rebuildCandidates();
+        }
+    }
+
+    private void rebuildCandidates() {
+        adminCandidates = Collections.unmodifiableList(new ArrayList<>(onlineAdmins.values()));
     }
 
     /**
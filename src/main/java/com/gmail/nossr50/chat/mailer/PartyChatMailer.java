@@ -8,7 +8,6 @@ import com.gmail.nossr50.datatypes.party.Party;
 import com.gmail.nossr50.events.chat.McMMOChatEvent;
 import com.gmail.nossr50.events.chat.McMMOPartyChatEvent;
 import com.gmail.nossr50.locale.LocaleLoader;
-import com.gmail.nossr50.mcMMO;
 import com.gmail.nossr50.util.text.TextUtils;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.TextComponent;
@@ -48,7 +47,7 @@ public class PartyChatMailer extends AbstractChatMailer {
      * @return an {@link Audience} of party members
      */
     public @NotNull Audience constructPartyAudience(@NotNull Party party) {
-        return mcMMO.getAudiences().filter(party.getSamePartyPredicate());
+        return party.getChatAudience();
     }
 
     /**
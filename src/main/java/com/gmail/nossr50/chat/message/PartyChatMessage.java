@@ -6,11 +6,9 @@ import com.gmail.nossr50.datatypes.party.Party;
 import com.gmail.nossr50.datatypes.player.McMMOPlayer;
 import com.gmail.nossr50.locale.LocaleLoader;
 import com.gmail.nossr50.mcMMO;
-import com.gmail.nossr50.util.player.UserManager;
 import com.google.common.base.Objects;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.TextComponent;
-import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 
@@ -60,20 +58,14 @@ public class PartyChatMessage extends AbstractChatMessage {
      * @param spyMessage the message to copy to spies
      */
     private void messagePartyChatSpies(@NotNull TextComponent spyMessage) {
-        //Find the people with permissions
-        for(McMMOPlayer mcMMOPlayer : UserManager.getPlayers()) {
-            Player player = mcMMOPlayer.getPlayer();
+        //Spies are tracked by the chat manager so async chat doesn't walk the online players
+        for(McMMOPlayer mcMMOPlayer : mcMMO.p.getChatManager().getPartyChatSpies()) {
+            Party adminParty = mcMMOPlayer.getParty();
 
-            //Check for toggled players
-            if(mcMMOPlayer.isPartyChatSpying()) {
-                Party adminParty = mcMMOPlayer.getParty();
-
-                //Only message admins not part of this party
-                if(adminParty == null || adminParty != getParty()) {
-                    //TODO: Hacky, rewrite later
-                    Audience audience = mcMMO.getAudiences().player(player);
-                    audience.sendMessage(spyMessage);
-                }
+            //Only message admins not part of this party
+            if(adminParty == null || adminParty != getParty()) {
+                Audience audience = mcMMO.getAudiences().player(mcMMOPlayer.getPlayer());
+                audience.sendMessage(spyMessage);
             }
         }
     }
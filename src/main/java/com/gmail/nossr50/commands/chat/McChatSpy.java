@@ -3,6 +3,7 @@ package com.gmail.nossr50.commands.chat;
 import com.gmail.nossr50.commands.ToggleCommand;
 import com.gmail.nossr50.datatypes.player.McMMOPlayer;
 import com.gmail.nossr50.locale.LocaleLoader;
+import com.gmail.nossr50.mcMMO;
 import com.gmail.nossr50.util.Permissions;
 import org.bukkit.command.CommandSender;
 
@@ -21,6 +22,7 @@ public class McChatSpy extends ToggleCommand {
     protected void applyCommandAction(McMMOPlayer mcMMOPlayer) {
         mcMMOPlayer.getPlayer().sendMessage(LocaleLoader.getString("Commands.AdminChatSpy." + (mcMMOPlayer.isPartyChatSpying() ? "Disabled" : "Enabled")));
         mcMMOPlayer.togglePartyChatSpying();
+        mcMMO.p.getChatManager().setPartyChatSpy(mcMMOPlayer, mcMMOPlayer.isPartyChatSpying());
     }
 
     @Override
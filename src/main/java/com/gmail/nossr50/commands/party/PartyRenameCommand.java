@@ -52,7 +52,7 @@ public class PartyRenameCommand implements CommandExecutor {
                 }
             }
 
-            playerParty.setName(newPartyName);
+            PartyManager.renameParty(playerParty, newPartyName);
 
             sender.sendMessage(LocaleLoader.getString("Commands.Party.Rename", newPartyName));
             return true;
@@ -39,6 +39,26 @@ public class AdvancedConfig extends AutoUpdateConfigLoader {
             reason.add("Skills.General.Ability.EnchantBuff should be at least 1!");
         }
 
+        if (getDropMergingMaxEntities() < 0) {
+            reason.add("Skills.General.DropMerging.MaxEntities should be at least 0!");
+        }
+
+        if (getDropMergingClusterSize() < 0) {
+            reason.add("Skills.General.DropMerging.ClusterSize should be at least 0!");
+        }
+
+        if (getNotificationPacketsPerTick() < 1) {
+            reason.add("Feedback.Dispatcher.PacketsPerTick should be at least 1!");
+        }
+
+        if (getNotificationDuplicateWindow() < 0) {
+            reason.add("Feedback.Dispatcher.DuplicateWindowTicks should be at least 0!");
+        }
+
+        if (getNotificationMaxQueuedMessages() < 0) {
+            reason.add("Feedback.Dispatcher.MaxQueuedMessages should be at least 0!");
+        }
+
         /* ACROBATICS */
         if (getMaximumProbability(SubSkillType.ACROBATICS_DODGE) < 1) {
             reason.add("Skills.Acrobatics.Dodge.ChanceMax should be at least 1!");
@@ -322,6 +342,10 @@ public class AdvancedConfig extends AutoUpdateConfigLoader {
             reason.add("Skills.Swords.Rupture.MaxTicks should be at least 1!");
         }
 
+        if (getRuptureMaxBleedsPerTick() < 0) {
+            reason.add("Skills.Swords.Rupture.MaxBleedsPerTick should be at least 0!");
+        }
+
         if (getRuptureMaxTicks() < getRuptureBaseTicks()) {
             reason.add("Skills.Swords.Rupture.MaxTicks should be at least Skills.Swords.Rupture.BaseTicks!");
         }
@@ -466,6 +490,10 @@ public class AdvancedConfig extends AutoUpdateConfigLoader {
         return config.getBoolean("Feedback.PlayerTips", true);
     }
 
+    public int getNotificationPacketsPerTick() { return config.getInt("Feedback.Dispatcher.PacketsPerTick", 3); }
+    public int getNotificationDuplicateWindow() { return config.getInt("Feedback.Dispatcher.DuplicateWindowTicks", 40); }
+    public int getNotificationMaxQueuedMessages() { return config.getInt("Feedback.Dispatcher.MaxQueuedMessages", 30); }
+
     /**
      * This returns the maximum level at which superabilities will stop lengthening from scaling alongside skill level.
      * It returns a different value depending on whether or not the server is in retro mode
@@ -492,6 +520,9 @@ public class AdvancedConfig extends AutoUpdateConfigLoader {
 
     public int getEnchantBuff() { return config.getInt("Skills.General.Ability.EnchantBuff", 5); }
 
+    public int getDropMergingMaxEntities() { return config.getInt("Skills.General.DropMerging.MaxEntities", 128); }
+    public int getDropMergingClusterSize() { return config.getInt("Skills.General.DropMerging.ClusterSize", 8); }
+
     /**
      * Grabs the max bonus level for a skill used in RNG calculations
      * All max level values in the config are multiplied by 10 if the server is in retro mode as the values in the config are based around the new 1-100 skill system scaling
@@ -778,6 +809,7 @@ public class AdvancedConfig extends AutoUpdateConfigLoader {
 
     public int getRuptureMaxTicks() { return config.getInt("Skills.Swords.Rupture.MaxTicks", 8); }
     public int getRuptureBaseTicks() { return config.getInt("Skills.Swords.Rupture.BaseTicks", 2); }
+    public int getRuptureMaxBleedsPerTick() { return config.getInt("Skills.Swords.Rupture.MaxBleedsPerTick", 200); }
 
     public double getCounterModifier() { return config.getDouble("Skills.Swords.CounterAttack.DamageModifier", 2.0D); }
 
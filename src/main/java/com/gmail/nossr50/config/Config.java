@@ -57,12 +57,29 @@ public class Config extends AutoUpdateConfigLoader {
             }
         }
 
+        /* Database Conversion */
+        if (getDatabaseConversionWriterThreads() <= 0) {
+            reason.add("Database_Conversion.Writer_Threads should be greater than 0!");
+        }
+
+        if (getDatabaseConversionBatchSize() <= 0) {
+            reason.add("Database_Conversion.Batch_Size should be greater than 0!");
+        }
+
+        if (getDatabaseConversionQueueSize() <= 0) {
+            reason.add("Database_Conversion.Queue_Size should be greater than 0!");
+        }
+
         /* Mob Healthbar */
         if (getMobHealthbarTime() == 0) {
             reason.add("Mob_Healthbar.Display_Time cannot be 0! Set to -1 to disable or set a valid value.");
         }
 
         /* Scoreboards */
+        if (getPowerLevelTagsPacketBudget() < 0) {
+            reason.add("Scoreboard.Power_Level_Tags_Packet_Budget should be at least 0!");
+        }
+
         /*if (getRankScoreboardTime() != -1 && getRankScoreboardTime() <= 0) {
             reason.add("Scoreboard.Types.Rank.Display_Time should be greater than 0, or -1!");
         }
@@ -284,6 +301,7 @@ public class Config extends AutoUpdateConfigLoader {
     /* Scoreboards */
     public boolean getScoreboardsEnabled() { return config.getBoolean("Scoreboard.UseScoreboards", true); }
     public boolean getPowerLevelTagsEnabled() { return config.getBoolean("Scoreboard.Power_Level_Tags", false); }
+    public int getPowerLevelTagsPacketBudget() { return config.getInt("Scoreboard.Power_Level_Tags_Packet_Budget", 2000); }
     public boolean getAllowKeepBoard() { return config.getBoolean("Scoreboard.Allow_Keep", true); }
     public int getTipsAmount() { return config.getInt("Scoreboard.Tips_Amount", 5); }
     public boolean getShowStatsAfterLogin() { return config.getBoolean("Scoreboard.Show_Stats_After_Login", false); }
@@ -319,6 +337,11 @@ public class Config extends AutoUpdateConfigLoader {
     public int getPurgeInterval() { return config.getInt("Database_Purging.Purge_Interval", -1); }
     public int getOldUsersCutoff() { return config.getInt("Database_Purging.Old_User_Cutoff", 6); }
 
+    /* Database Conversion */
+    public int getDatabaseConversionWriterThreads() { return config.getInt("Database_Conversion.Writer_Threads", 4); }
+    public int getDatabaseConversionBatchSize() { return config.getInt("Database_Conversion.Batch_Size", 500); }
+    public int getDatabaseConversionQueueSize() { return config.getInt("Database_Conversion.Queue_Size", 16); }
+
     /* Backups */
     public boolean getBackupsEnabled() { return config.getBoolean("Backups.Enabled", true); }
     public boolean getKeepLast24Hours() { return config.getBoolean("Backups.Keep.Last_24_Hours", true); }
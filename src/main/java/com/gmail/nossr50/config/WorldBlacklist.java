@@ -1,16 +1,25 @@
 package com.gmail.nossr50.config;
 
 import com.gmail.nossr50.mcMMO;
+import org.bukkit.Bukkit;
 import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.*;
-import java.util.ArrayList;
+import java.util.*;
 
 /**
  * Blacklist certain features in certain worlds
+ * <p>
+ * The world names are resolved to the UUIDs of the loaded worlds when the blacklist is loaded and whenever a world loads,
+ * so the checks at the top of the listeners are a single set lookup, or nothing at all when the blacklist is empty.
  */
 public class WorldBlacklist {
     private static ArrayList<String> blacklist;
+    // Lower case world names from the blacklist file
+    private static final Set<String> blacklistedNames = new HashSet<>();
+    // UUIDs of the loaded worlds which are blacklisted
+    private static final Set<UUID> blacklistedWorlds = new HashSet<>();
     private final mcMMO plugin;
 
     private final String blackListFileName = "world_blacklist.txt";
@@ -37,6 +46,37 @@ public class WorldBlacklist {
         //Load up the blacklist
         loadBlacklist(blackListFile);
         //registerFlags();
+
+        blacklistedNames.clear();
+        blacklistedWorlds.clear();
+
+        for (String worldName : blacklist) {
+            blacklistedNames.add(worldName.toLowerCase(Locale.ENGLISH));
+        }
+
+        for (World world : Bukkit.getWorlds()) {
+            worldLoaded(world);
+        }
+    }
+
+    /**
+     * Resolve the blacklist entry of a world which was just loaded
+     *
+     * @param world the loaded world
+     */
+    public static void worldLoaded(@NotNull World world) {
+        if (blacklistedNames.contains(world.getName().toLowerCase(Locale.ENGLISH))) {
+            blacklistedWorlds.add(world.getUID());
+        }
+    }
+
+    /**
+     * Forget a world which was unloaded
+     *
+     * @param world the unloaded world
+     */
+    public static void worldUnloaded(@NotNull World world) {
+        blacklistedWorlds.remove(world.getUID());
     }
 
     private void loadBlacklist(File blackListFile) {
@@ -81,13 +121,6 @@ public class WorldBlacklist {
 
     public static boolean isWorldBlacklisted(World world)
     {
-
-        for(String s : blacklist)
-        {
-            if(world.getName().equalsIgnoreCase(s))
-                return true;
-        }
-
-        return false;
+        return !blacklistedWorlds.isEmpty() && blacklistedWorlds.contains(world.getUID());
     }
 }
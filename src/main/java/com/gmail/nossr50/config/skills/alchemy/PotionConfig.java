@@ -8,12 +8,11 @@ import org.bukkit.Color;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.PotionMeta;
 import org.bukkit.potion.*;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 public class PotionConfig extends ConfigLoader {
     private static PotionConfig instance;
@@ -29,6 +28,11 @@ public class PotionConfig extends ConfigLoader {
 
     private final Map<String, AlchemyPotion> potionMap = new HashMap<>();
 
+    // Ingredients of every tier grouped by material, index 0 is tier one
+    private final List<Map<Material, List<ItemStack>>> ingredientIndex = new ArrayList<>();
+    // Potions grouped by material and base potion data, only the potions of a group need the full comparison
+    private final Map<Material, Map<PotionData, List<AlchemyPotion>>> potionIndex = new EnumMap<>(Material.class);
+
     private PotionConfig() {
         super("potions.yml");
         loadKeys();
@@ -46,6 +50,7 @@ public class PotionConfig extends ConfigLoader {
     protected void loadKeys() {
         loadConcoctions();
         loadPotionMap();
+        buildIndexes();
     }
 
     private void loadConcoctions() {
@@ -104,6 +109,27 @@ public class PotionConfig extends ConfigLoader {
         mcMMO.p.debug("Loaded " + pass + " Alchemy potions, skipped " + fail + ".");
     }
 
+    private void buildIndexes() {
+        ingredientIndex.clear();
+        potionIndex.clear();
+
+        for (int tier = 1; tier <= 8; tier++) {
+            Map<Material, List<ItemStack>> tierIndex = new EnumMap<>(Material.class);
+
+            for (ItemStack ingredient : getIngredients(tier)) {
+                tierIndex.computeIfAbsent(ingredient.getType(), material -> new ArrayList<>(1)).add(ingredient);
+            }
+
+            ingredientIndex.add(tierIndex);
+        }
+
+        for (AlchemyPotion potion : potionMap.values()) {
+            potionIndex.computeIfAbsent(potion.getMaterial(), material -> new HashMap<>())
+                    .computeIfAbsent(potion.getData(), data -> new ArrayList<>(1))
+                    .add(potion);
+        }
+    }
+
     /**
      * Parse a ConfigurationSection representing a AlchemyPotion.
      * Returns null if input cannot be parsed.
@@ -236,6 +262,31 @@ public class PotionConfig extends ConfigLoader {
         }
     }
 
+    /**
+     * Check whether an item is an ingredient of the given tier or any tier below it.
+     *
+     * @param tier the concoctions tier
+     * @param item the item to check
+     * @return true if the item can be used as ingredient
+     */
+    public boolean isValidIngredient(int tier, ItemStack item) {
+        // Same fallback to tier one as getIngredients
+        int index = tier >= 1 && tier <= 8 ? tier - 1 : 0;
+        List<ItemStack> ingredients = ingredientIndex.get(index).get(item.getType());
+
+        if (ingredients == null) {
+            return false;
+        }
+
+        for (ItemStack ingredient : ingredients) {
+            if (item.isSimilar(ingredient)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     public boolean isValidPotion(ItemStack item) {
         return getPotion(item) != null;
     }
@@ -245,7 +296,25 @@ public class PotionConfig extends ConfigLoader {
     }
     
     public AlchemyPotion getPotion(ItemStack item) {
-        for (AlchemyPotion potion : potionMap.values()) {
+        Map<PotionData, List<AlchemyPotion>> potionsByData = potionIndex.get(item.getType());
+
+        if (potionsByData == null || !item.hasItemMeta()) {
+            return null;
+        }
+
+        ItemMeta meta = item.getItemMeta();
+
+        if (!(meta instanceof PotionMeta)) {
+            return null;
+        }
+
+        List<AlchemyPotion> potions = potionsByData.get(((PotionMeta) meta).getBasePotionData());
+
+        if (potions == null) {
+            return null;
+        }
+
+        for (AlchemyPotion potion : potions) {
             if (potion.isSimilar(item)) {
                 return potion;
             }
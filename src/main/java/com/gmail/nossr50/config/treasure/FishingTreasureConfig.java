@@ -15,6 +15,7 @@ import org.bukkit.inventory.meta.PotionMeta;
 import org.bukkit.potion.PotionData;
 import org.bukkit.potion.PotionType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
@@ -27,6 +28,12 @@ public class FishingTreasureConfig extends ConfigLoader {
     public @NotNull HashMap<Rarity, List<EnchantmentTreasure>> fishingEnchantments = new HashMap<>();
     public @NotNull HashMap<EntityType, List<ShakeTreasure>> shakeMap  = new HashMap<>();
 
+    private static final Rarity[] RARITIES = Rarity.values();
+
+    // Drop rates by tier and rarity, read once so rolling for a treasure doesn't need config lookups
+    private double[][] itemDropRates = new double[0][];
+    private double[][] enchantmentDropRates = new double[0][];
+
     private FishingTreasureConfig() {
         super(FILENAME);
         loadKeys();
@@ -79,6 +86,9 @@ public class FishingTreasureConfig extends ConfigLoader {
 
     @Override
     protected void loadKeys() {
+        itemDropRates = loadDropRates("Item_Drop_Rates");
+        enchantmentDropRates = loadDropRates("Enchantment_Drop_Rates");
+
         if (config.getConfigurationSection("Treasures") != null) {
             backup();
             return;
@@ -374,10 +384,75 @@ public class FishingTreasureConfig extends ConfigLoader {
     }
 
     public double getItemDropRate(int tier, @NotNull Rarity rarity) {
-        return config.getDouble("Item_Drop_Rates.Tier_" + tier + "." + rarity.toString());
+        return getDropRate(itemDropRates, tier, rarity);
     }
 
     public double getEnchantmentDropRate(int tier, @NotNull Rarity rarity) {
-        return config.getDouble("Enchantment_Drop_Rates.Tier_" + tier + "." + rarity.toString());
+        return getDropRate(enchantmentDropRates, tier, rarity);
+    }
+
+    /**
+     * Find the rarity of the item a roll lands on, rarities are checked from rarest to most common.
+     *
+     * @param tier the Treasure Hunter tier
+     * @param diceRoll the roll, from 0 to 100
+     * @return the rarity or null if the roll is past the drop rates of all rarities
+     */
+    public @Nullable Rarity getItemRarity(int tier, double diceRoll) {
+        if (tier < 0 || tier >= itemDropRates.length) {
+            return null;
+        }
+
+        double[] dropRates = itemDropRates[tier];
+
+        for (Rarity rarity : RARITIES) {
+            double dropRate = dropRates[rarity.ordinal()];
+
+            if (diceRoll <= dropRate) {
+                return rarity;
+            }
+
+            diceRoll -= dropRate;
+        }
+
+        return null;
+    }
+
+    private double getDropRate(double[][] dropRates, int tier, @NotNull Rarity rarity) {
+        if (tier < 0 || tier >= dropRates.length) {
+            return 0.0;
+        }
+
+        return dropRates[tier][rarity.ordinal()];
+    }
+
+    private double[][] loadDropRates(@NotNull String section) {
+        ConfigurationSection ratesSection = config.getConfigurationSection(section);
+        int maxTier = 0;
+
+        if (ratesSection != null) {
+            for (String tier : ratesSection.getKeys(false)) {
+                if (!tier.startsWith("Tier_")) {
+                    continue;
+                }
+
+                try {
+                    maxTier = Math.max(maxTier, Integer.parseInt(tier.substring("Tier_".length())));
+                }
+                catch (NumberFormatException ignored) {
+                    // Not a tier, validation reports the bad rates
+                }
+            }
+        }
+
+        double[][] dropRates = new double[maxTier + 1][RARITIES.length];
+
+        for (int tier = 0; tier <= maxTier; tier++) {
+            for (Rarity rarity : RARITIES) {
+                dropRates[tier][rarity.ordinal()] = config.getDouble(section + ".Tier_" + tier + "." + rarity.toString());
+            }
+        }
+
+        return dropRates;
     }
 }
@@ -7,16 +7,22 @@ import com.gmail.nossr50.util.text.StringUtils;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.Tag;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.PotionMeta;
 import org.bukkit.potion.PotionData;
 import org.bukkit.potion.PotionType;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class TreasureConfig extends ConfigLoader {
 
@@ -26,6 +32,9 @@ public class TreasureConfig extends ConfigLoader {
     public HashMap<String, List<ExcavationTreasure>> excavationMap = new HashMap<>();
     public HashMap<String, List<HylianTreasure>>    hylianMap = new HashMap<>();
 
+    // Excavation treasures by block material, sorted by drop level
+    private final EnumMap<Material, List<ExcavationTreasure>> excavationTreasures = new EnumMap<>(Material.class);
+
     private TreasureConfig() {
         super(FILENAME);
         loadKeys();
@@ -57,6 +66,49 @@ public class TreasureConfig extends ConfigLoader {
 
         loadTreasures("Excavation");
         loadTreasures("Hylian_Luck");
+        compileExcavationTreasures();
+    }
+
+    /**
+     * Sort the excavation treasures by drop level and index them by material so looking them up doesn't need a config string.
+     * Materials whose config string depends on the age of the block are left to {@link #excavationMap}.
+     */
+    private void compileExcavationTreasures() {
+        excavationTreasures.clear();
+
+        for (List<ExcavationTreasure> treasures : excavationMap.values()) {
+            treasures.sort(Comparator.comparingInt(ExcavationTreasure::getDropLevel));
+        }
+
+        for (Map.Entry<String, List<ExcavationTreasure>> entry : excavationMap.entrySet()) {
+            Material material = Material.matchMaterial(entry.getKey());
+
+            // Skip keys which are not the config string of a block, a lookup by material never used them
+            if (material == null || !material.isBlock() || StringUtils.hasAgeInConfigString(material)
+                    || !entry.getKey().equals(StringUtils.getFriendlyConfigMaterialString(material))) {
+                continue;
+            }
+
+            if (!entry.getValue().isEmpty()) {
+                excavationTreasures.put(material, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Get the excavation treasures of a block, sorted by drop level.
+     *
+     * @param blockData the block
+     * @return the treasures that could be found in the block
+     */
+    public @NotNull List<ExcavationTreasure> getExcavationTreasures(@NotNull BlockData blockData) {
+        Material material = blockData.getMaterial();
+
+        if (StringUtils.hasAgeInConfigString(material)) {
+            return excavationMap.getOrDefault(StringUtils.getFriendlyConfigBlockDataString(blockData), Collections.emptyList());
+        }
+
+        return excavationTreasures.getOrDefault(material, Collections.emptyList());
     }
 
     private void loadTreasures(String type) {
@@ -53,6 +53,23 @@ public interface DatabaseManager {
      */
     boolean saveUser(PlayerProfile profile);
 
+    /**
+     * Save several users to the database at once.
+     * Implementations should override this if they can write a batch cheaper than one profile at a time.
+     *
+     * @param profiles The profiles to save
+     * @return true if every profile was saved, false if any of them failed
+     */
+    default boolean saveUsers(@NotNull List<PlayerProfile> profiles) {
+        boolean success = true;
+
+        for (PlayerProfile profile : profiles) {
+            success &= saveUser(profile);
+        }
+
+        return success;
+    }
+
     /**
     * Retrieve leaderboard info.
      * Will never be null but it may be empty
@@ -126,7 +143,7 @@ public interface DatabaseManager {
 
     /**
      * Convert all users from this database to the provided database using
-     * {@link #saveUser(PlayerProfile)}.
+     * a {@link UserConversionPipeline}.
      *
      * @param destination The DatabaseManager to save to
      */
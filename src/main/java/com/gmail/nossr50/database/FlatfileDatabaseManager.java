@@ -20,6 +20,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
 
 public final class FlatfileDatabaseManager implements DatabaseManager {
@@ -550,30 +552,48 @@ public final class FlatfileDatabaseManager implements DatabaseManager {
     public void convertUsers(DatabaseManager destination) {
         BufferedReader in = null;
         String usersFilePath = mcMMO.getUsersFilePath();
-        int convertedUsers = 0;
-        long startMillis = System.currentTimeMillis();
+        UserConversionPipeline pipeline = new UserConversionPipeline(this, destination);
 
         synchronized (fileWritingLock) {
             try {
+                pipeline.start();
+
                 // Open the user file
                 in = new BufferedReader(new FileReader(usersFilePath));
                 String line;
+                int skippedUsers = 0;
 
                 while ((line = in.readLine()) != null) {
+                    // Already converted by an interrupted run
+                    if (skippedUsers < pipeline.getResumeIndex()) {
+                        skippedUsers++;
+                        continue;
+                    }
+
                     String[] character = line.split(":");
+                    PlayerProfile profile;
 
                     try {
-                        destination.saveUser(loadFromLine(character));
+                        profile = loadFromLine(character);
                     }
                     catch (Exception e) {
                         e.printStackTrace();
+                        pipeline.skip();
+                        continue;
                     }
-                    convertedUsers++;
-                    Misc.printProgress(convertedUsers, progressInterval, startMillis);
+
+                    pipeline.submit(profile);
                 }
+
+                pipeline.finish();
+            }
+            catch (InterruptedException e) {
+                pipeline.abort();
+                Thread.currentThread().interrupt();
             }
             catch (Exception e) {
                 e.printStackTrace();
+                pipeline.abort();
             }
             finally {
                 if (in != null) {
@@ -588,6 +608,108 @@ public final class FlatfileDatabaseManager implements DatabaseManager {
         }
     }
 
+    /**
+     * Append converted users to a staging file, see {@link #mergeStagedUsers(File)}.
+     *
+     * @param staging writer of the staging file
+     * @param profiles users to append
+     */
+    void writeStagedUsers(@NotNull Writer staging, @NotNull List<PlayerProfile> profiles) throws IOException {
+        StringBuilder writer = new StringBuilder();
+
+        for (PlayerProfile profile : profiles) {
+            writeUserToLine(profile, profile.getPlayerName(), profile.getUniqueId(), writer);
+        }
+
+        staging.write(writer.toString());
+        staging.flush();
+    }
+
+    /**
+     * Replace the users file with its current entries merged with a staging file in a single sequential write.
+     * Staged users replace existing entries with the same UUID or name, and later staged lines win over earlier ones.
+     *
+     * @param stagingFile file written by {@link #writeStagedUsers(Writer, List)}
+     * @return true if the users file was replaced
+     */
+    boolean mergeStagedUsers(@NotNull File stagingFile) {
+        Set<String> stagedUUIDs = new HashSet<>();
+        Set<String> stagedNames = new HashSet<>();
+        Map<String, Integer> lastStagedLines = new HashMap<>();
+        String usersFilePath = mcMMO.getUsersFilePath();
+        File mergedFile = new File(usersFilePath + ".merging");
+
+        try (BufferedReader in = new BufferedReader(new FileReader(stagingFile))) {
+            String line;
+            int lineNumber = 0;
+
+            while ((line = in.readLine()) != null) {
+                String[] character = line.split(":");
+                lastStagedLines.put(getStagedKey(character), lineNumber++);
+                stagedNames.add(character[USERNAME].toLowerCase(Locale.ENGLISH));
+
+                if (!character[UUID_INDEX].equals("NULL")) {
+                    stagedUUIDs.add(character[UUID_INDEX].toLowerCase(Locale.ENGLISH));
+                }
+            }
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+
+        synchronized (fileWritingLock) {
+            try (BufferedWriter out = new BufferedWriter(new FileWriter(mergedFile))) {
+                try (BufferedReader in = new BufferedReader(new FileReader(usersFilePath))) {
+                    String line;
+
+                    while ((line = in.readLine()) != null) {
+                        String[] character = line.split(":");
+
+                        if (stagedUUIDs.contains(character[UUID_INDEX].toLowerCase(Locale.ENGLISH)) || stagedNames.contains(character[USERNAME].toLowerCase(Locale.ENGLISH))) {
+                            continue;
+                        }
+
+                        out.write(line);
+                        out.write("\r\n");
+                    }
+                }
+
+                try (BufferedReader in = new BufferedReader(new FileReader(stagingFile))) {
+                    String line;
+                    int lineNumber = 0;
+
+                    while ((line = in.readLine()) != null) {
+                        // Entries staged twice by a resumed conversion only keep their last copy
+                        if (lastStagedLines.get(getStagedKey(line.split(":"))) == lineNumber++) {
+                            out.write(line);
+                            out.write("\r\n");
+                        }
+                    }
+                }
+            }
+            catch (IOException e) {
+                e.printStackTrace();
+                mergedFile.delete();
+                return false;
+            }
+
+            try {
+                Files.move(mergedFile.toPath(), usersFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (IOException e) {
+                e.printStackTrace();
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private String getStagedKey(String[] character) {
+        return character[UUID_INDEX].equals("NULL") ? "name:" + character[USERNAME].toLowerCase(Locale.ENGLISH) : character[UUID_INDEX].toLowerCase(Locale.ENGLISH);
+    }
+
     public boolean saveUserUUID(String userName, UUID uuid) {
         boolean worked = false;
 
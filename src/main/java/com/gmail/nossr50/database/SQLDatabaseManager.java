@@ -20,15 +20,17 @@ import org.bukkit.scheduler.BukkitRunnable;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 public final class SQLDatabaseManager implements DatabaseManager {
     private static final String ALL_QUERY_VERSION = "total";
     private final String tablePrefix = Config.getInstance().getMySQLTablePrefix();
 
-    private final Map<UUID, Integer> cachedUserIDs = new HashMap<>();
+    private final Map<UUID, Integer> cachedUserIDs = new ConcurrentHashMap<>();
 
     private DataSource miscPool;
     private DataSource loadPool;
@@ -346,6 +348,152 @@ public final class SQLDatabaseManager implements DatabaseManager {
         return success;
     }
 
+    @Override
+    public boolean saveUsers(@NotNull List<PlayerProfile> profiles) {
+        if (profiles.isEmpty()) {
+            return true;
+        }
+
+        boolean success = true;
+        Connection connection = null;
+        PreparedStatement loginStatement = null;
+        PreparedStatement skillsStatement = null;
+        PreparedStatement experienceStatement = null;
+        PreparedStatement cooldownsStatement = null;
+        PreparedStatement hudsStatement = null;
+
+        try {
+            connection = getConnection(PoolIdentifier.SAVE);
+            connection.setAutoCommit(false);
+
+            loginStatement = connection.prepareStatement("UPDATE " + tablePrefix + "users SET lastlogin = UNIX_TIMESTAMP() WHERE id = ?");
+            skillsStatement = connection.prepareStatement("UPDATE " + tablePrefix + "skills SET "
+                    + " taming = ?, mining = ?, repair = ?, woodcutting = ?"
+                    + ", unarmed = ?, herbalism = ?, excavation = ?"
+                    + ", archery = ?, swords = ?, axes = ?, acrobatics = ?"
+                    + ", fishing = ?, alchemy = ?, total = ? WHERE user_id = ?");
+            experienceStatement = connection.prepareStatement("UPDATE " + tablePrefix + "experience SET "
+                    + " taming = ?, mining = ?, repair = ?, woodcutting = ?"
+                    + ", unarmed = ?, herbalism = ?, excavation = ?"
+                    + ", archery = ?, swords = ?, axes = ?, acrobatics = ?"
+                    + ", fishing = ?, alchemy = ? WHERE user_id = ?");
+            cooldownsStatement = connection.prepareStatement("UPDATE " + tablePrefix + "cooldowns SET "
+                    + "  mining = ?, woodcutting = ?, unarmed = ?"
+                    + ", herbalism = ?, excavation = ?, swords = ?"
+                    + ", axes = ?, blast_mining = ?, chimaera_wing = ? WHERE user_id = ?");
+            hudsStatement = connection.prepareStatement("UPDATE " + tablePrefix + "huds SET mobhealthbar = ?, scoreboardtips = ? WHERE user_id = ?");
+
+            for (PlayerProfile profile : profiles) {
+                int id = getUncachedUserID(connection, profile.getPlayerName(), profile.getUniqueId());
+
+                if (id == -1) {
+                    id = newUser(connection, profile.getPlayerName(), profile.getUniqueId());
+                    if (id == -1) {
+                        mcMMO.p.getLogger().severe("Failed to create new account for " + profile.getPlayerName());
+                        success = false;
+                        continue;
+                    }
+                }
+
+                loginStatement.setInt(1, id);
+                loginStatement.addBatch();
+
+                int total = 0;
+                for (PrimarySkillType primarySkillType : PrimarySkillType.NON_CHILD_SKILLS)
+                    total += profile.getSkillLevel(primarySkillType);
+                skillsStatement.setInt(1, profile.getSkillLevel(PrimarySkillType.TAMING));
+                skillsStatement.setInt(2, profile.getSkillLevel(PrimarySkillType.MINING));
+                skillsStatement.setInt(3, profile.getSkillLevel(PrimarySkillType.REPAIR));
+                skillsStatement.setInt(4, profile.getSkillLevel(PrimarySkillType.WOODCUTTING));
+                skillsStatement.setInt(5, profile.getSkillLevel(PrimarySkillType.UNARMED));
+                skillsStatement.setInt(6, profile.getSkillLevel(PrimarySkillType.HERBALISM));
+                skillsStatement.setInt(7, profile.getSkillLevel(PrimarySkillType.EXCAVATION));
+                skillsStatement.setInt(8, profile.getSkillLevel(PrimarySkillType.ARCHERY));
+                skillsStatement.setInt(9, profile.getSkillLevel(PrimarySkillType.SWORDS));
+                skillsStatement.setInt(10, profile.getSkillLevel(PrimarySkillType.AXES));
+                skillsStatement.setInt(11, profile.getSkillLevel(PrimarySkillType.ACROBATICS));
+                skillsStatement.setInt(12, profile.getSkillLevel(PrimarySkillType.FISHING));
+                skillsStatement.setInt(13, profile.getSkillLevel(PrimarySkillType.ALCHEMY));
+                skillsStatement.setInt(14, total);
+                skillsStatement.setInt(15, id);
+                skillsStatement.addBatch();
+
+                experienceStatement.setInt(1, profile.getSkillXpLevel(PrimarySkillType.TAMING));
+                experienceStatement.setInt(2, profile.getSkillXpLevel(PrimarySkillType.MINING));
+                experienceStatement.setInt(3, profile.getSkillXpLevel(PrimarySkillType.REPAIR));
+                experienceStatement.setInt(4, profile.getSkillXpLevel(PrimarySkillType.WOODCUTTING));
+                experienceStatement.setInt(5, profile.getSkillXpLevel(PrimarySkillType.UNARMED));
+                experienceStatement.setInt(6, profile.getSkillXpLevel(PrimarySkillType.HERBALISM));
+                experienceStatement.setInt(7, profile.getSkillXpLevel(PrimarySkillType.EXCAVATION));
+                experienceStatement.setInt(8, profile.getSkillXpLevel(PrimarySkillType.ARCHERY));
+                experienceStatement.setInt(9, profile.getSkillXpLevel(PrimarySkillType.SWORDS));
+                experienceStatement.setInt(10, profile.getSkillXpLevel(PrimarySkillType.AXES));
+                experienceStatement.setInt(11, profile.getSkillXpLevel(PrimarySkillType.ACROBATICS));
+                experienceStatement.setInt(12, profile.getSkillXpLevel(PrimarySkillType.FISHING));
+                experienceStatement.setInt(13, profile.getSkillXpLevel(PrimarySkillType.ALCHEMY));
+                experienceStatement.setInt(14, id);
+                experienceStatement.addBatch();
+
+                cooldownsStatement.setLong(1, profile.getAbilityDATS(SuperAbilityType.SUPER_BREAKER));
+                cooldownsStatement.setLong(2, profile.getAbilityDATS(SuperAbilityType.TREE_FELLER));
+                cooldownsStatement.setLong(3, profile.getAbilityDATS(SuperAbilityType.BERSERK));
+                cooldownsStatement.setLong(4, profile.getAbilityDATS(SuperAbilityType.GREEN_TERRA));
+                cooldownsStatement.setLong(5, profile.getAbilityDATS(SuperAbilityType.GIGA_DRILL_BREAKER));
+                cooldownsStatement.setLong(6, profile.getAbilityDATS(SuperAbilityType.SERRATED_STRIKES));
+                cooldownsStatement.setLong(7, profile.getAbilityDATS(SuperAbilityType.SKULL_SPLITTER));
+                cooldownsStatement.setLong(8, profile.getAbilityDATS(SuperAbilityType.BLAST_MINING));
+                cooldownsStatement.setLong(9, profile.getUniqueData(UniqueDataType.CHIMAERA_WING_DATS));
+                cooldownsStatement.setInt(10, id);
+                cooldownsStatement.addBatch();
+
+                hudsStatement.setString(1, profile.getMobHealthbarType() == null ? Config.getInstance().getMobHealthbarDefault().name() : profile.getMobHealthbarType().name());
+                hudsStatement.setInt(2, profile.getScoreboardTipsShown());
+                hudsStatement.setInt(3, id);
+                hudsStatement.addBatch();
+            }
+
+            loginStatement.executeBatch();
+            skillsStatement.executeBatch();
+            experienceStatement.executeBatch();
+            cooldownsStatement.executeBatch();
+            hudsStatement.executeBatch();
+            connection.commit();
+        }
+        catch (SQLException ex) {
+            printErrors(ex);
+            success = false;
+
+            if (connection != null) {
+                try {
+                    connection.rollback();
+                }
+                catch (SQLException e) {
+                    // Ignore
+                }
+            }
+        }
+        finally {
+            tryClose(loginStatement);
+            tryClose(skillsStatement);
+            tryClose(experienceStatement);
+            tryClose(cooldownsStatement);
+            tryClose(hudsStatement);
+
+            if (connection != null) {
+                try {
+                    connection.setAutoCommit(true);
+                }
+                catch (SQLException e) {
+                    // Ignore
+                }
+            }
+
+            tryClose(connection);
+        }
+
+        return success;
+    }
+
     public @NotNull List<PlayerStat> readLeaderboard(@Nullable PrimarySkillType skill, int pageNumber, int statsPerPage) throws InvalidSkillException {
         List<PlayerStat> stats = new ArrayList<>();
 
@@ -648,6 +796,7 @@ public final class SQLDatabaseManager implements DatabaseManager {
     }
 
     public void convertUsers(DatabaseManager destination) {
+        UserConversionPipeline pipeline = new UserConversionPipeline(this, destination);
         PreparedStatement statement = null;
         Connection connection = null;
         ResultSet resultSet = null;
@@ -667,26 +816,38 @@ public final class SQLDatabaseManager implements DatabaseManager {
                             + "JOIN " + tablePrefix + "huds h ON (u.id = h.user_id) "
                             + "WHERE u.user = ?");
             List<String> usernames = getStoredUsers();
-            int convertedUsers = 0;
-            long startMillis = System.currentTimeMillis();
-            for (String playerName : usernames) {
+            // A stable order lets an interrupted conversion resume by position
+            Collections.sort(usernames);
+            pipeline.start();
+
+            for (String playerName : usernames.subList(Math.min(pipeline.getResumeIndex(), usernames.size()), usernames.size())) {
                 statement.setString(1, playerName);
                 try {
                     resultSet = statement.executeQuery();
                     resultSet.next();
-                    destination.saveUser(loadFromResult(playerName, resultSet));
+                    PlayerProfile profile = loadFromResult(playerName, resultSet);
                     resultSet.close();
+                    pipeline.submit(profile);
                 }
                 catch (SQLException e) {
                     printErrors(e);
-                    // Ignore
+                    pipeline.skip();
                 }
-                convertedUsers++;
-                Misc.printProgress(convertedUsers, progressInterval, startMillis);
             }
+
+            pipeline.finish();
         }
         catch (SQLException e) {
             printErrors(e);
+            pipeline.abort();
+        }
+        catch (InterruptedException e) {
+            pipeline.abort();
+            Thread.currentThread().interrupt();
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+            pipeline.abort();
         }
         finally {
             tryClose(resultSet);
@@ -1456,9 +1617,36 @@ public final class SQLDatabaseManager implements DatabaseManager {
         if (uuid == null)
             return getUserIDByName(connection, playerName);
 
-        if (cachedUserIDs.containsKey(uuid))
-            return cachedUserIDs.get(uuid);
+        Integer cachedID = cachedUserIDs.get(uuid);
+
+        if (cachedID != null)
+            return cachedID;
+
+        int id = getUserIDByUUID(connection, playerName, uuid);
+
+        if (id != -1) {
+            cachedUserIDs.put(uuid, id);
+        }
+
+        return id;
+    }
+
+    /**
+     * Looks up a user id without touching {@link #cachedUserIDs}, used by bulk saves which would otherwise fill the cache with offline users
+     */
+    private int getUncachedUserID(final Connection connection, final String playerName, final UUID uuid) {
+        if (uuid == null)
+            return getUserIDByName(connection, playerName);
+
+        Integer cachedID = cachedUserIDs.get(uuid);
+
+        if (cachedID != null)
+            return cachedID;
 
+        return getUserIDByUUID(connection, playerName, uuid);
+    }
+
+    private int getUserIDByUUID(final Connection connection, final String playerName, final UUID uuid) {
         ResultSet resultSet = null;
         PreparedStatement statement = null;
 
@@ -1469,11 +1657,7 @@ public final class SQLDatabaseManager implements DatabaseManager {
             resultSet = statement.executeQuery();
 
             if (resultSet.next()) {
-                int id = resultSet.getInt("id");
-
-                cachedUserIDs.put(uuid, id);
-
-                return id;
+                return resultSet.getInt("id");
             }
         }
         catch (SQLException ex) {
@@ -0,0 +1,314 @@
+package com.gmail.nossr50.database;
+
+import com.gmail.nossr50.config.Config;
+import com.gmail.nossr50.datatypes.player.PlayerProfile;
+import com.gmail.nossr50.mcMMO;
+import com.gmail.nossr50.util.Misc;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams users from a source database into a destination database.
+ * <p>
+ * The converting thread groups profiles into batches and hands them to a bounded queue, so reading never runs
+ * far ahead of writing. Writer threads drain the queue into the destination with {@link DatabaseManager#saveUsers(List)}.
+ * Flatfile destinations always get a single writer which stages every user and merges them into the users file
+ * in one sequential write once the source is exhausted.
+ * <p>
+ * Progress is checkpointed by source position, an interrupted conversion between the same database types picks
+ * up where it stopped. Sources must feed users in a stable order and call {@link #skip()} for unreadable entries.
+ */
+public class UserConversionPipeline {
+    private static final String CHECKPOINT_FILE = "conversion.checkpoint";
+    private static final String STAGING_FILE = "mcmmo.users.converting";
+    private static final Batch END_OF_STREAM = new Batch(-1, Collections.emptyList(), -1);
+
+    private final DatabaseManager destination;
+    private final FlatfileDatabaseManager flatfileDestination;
+    private final BlockingQueue<Batch> queue;
+    private final Thread[] writers;
+    private final int batchSize;
+    private final String conversionId;
+    private final File checkpointFile;
+    private final File stagingFile;
+    private final int resumeIndex;
+
+    private final Map<Integer, Integer> completedBatches = new HashMap<>();
+    private final AtomicInteger convertedUsers = new AtomicInteger();
+    private int contiguousBatches = 0;
+    private int checkpoint;
+    private volatile boolean failed = false;
+
+    private Writer stagingWriter;
+    private List<PlayerProfile> pendingProfiles;
+    private int nextBatchIndex = 0;
+    private int sourcePosition;
+    private int queuedPosition;
+    private long startMillis;
+
+    public UserConversionPipeline(@NotNull DatabaseManager source, @NotNull DatabaseManager destination) {
+        this.destination = destination;
+        this.flatfileDestination = destination instanceof FlatfileDatabaseManager ? (FlatfileDatabaseManager) destination : null;
+
+        batchSize = Config.getInstance().getDatabaseConversionBatchSize();
+        queue = new ArrayBlockingQueue<>(Config.getInstance().getDatabaseConversionQueueSize());
+        writers = new Thread[flatfileDestination != null ? 1 : Config.getInstance().getDatabaseConversionWriterThreads()];
+        conversionId = source.getDatabaseType().name() + "->" + destination.getDatabaseType().name();
+        checkpointFile = new File(mcMMO.getFlatFileDirectory(), CHECKPOINT_FILE);
+        stagingFile = new File(mcMMO.getFlatFileDirectory(), STAGING_FILE);
+        resumeIndex = readCheckpoint();
+        checkpoint = resumeIndex;
+        sourcePosition = resumeIndex;
+        queuedPosition = resumeIndex;
+        pendingProfiles = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * How many users from the start of the source were already converted by a previous run, the source should skip them.
+     *
+     * @return the number of source entries to skip
+     */
+    public int getResumeIndex() {
+        return resumeIndex;
+    }
+
+    public void start() throws IOException {
+        if (flatfileDestination != null) {
+            // A staging file without a matching checkpoint is left over from an unrelated run
+            stagingWriter = new BufferedWriter(new FileWriter(stagingFile, resumeIndex > 0));
+        }
+
+        if (resumeIndex > 0) {
+            mcMMO.p.getLogger().info("Resuming database conversion after " + resumeIndex + " users.");
+        }
+
+        startMillis = System.currentTimeMillis();
+
+        for (int i = 0; i < writers.length; i++) {
+            writers[i] = new Thread(this::drainQueue, "mcMMO-DatabaseConversion-" + i);
+            writers[i].setDaemon(true);
+            writers[i].start();
+        }
+    }
+
+    /**
+     * Queue a user for conversion, blocks while the writers are behind.
+     *
+     * @param profile the profile read from the source
+     */
+    public void submit(@NotNull PlayerProfile profile) throws InterruptedException {
+        pendingProfiles.add(profile);
+        sourcePosition++;
+
+        if (pendingProfiles.size() >= batchSize) {
+            flushPending();
+        }
+    }
+
+    /**
+     * Account for a source entry which could not be read, so checkpoints stay aligned with source positions.
+     */
+    public void skip() {
+        sourcePosition++;
+    }
+
+    /**
+     * Wait for every queued user to be written and finalize the destination.
+     */
+    public void finish() throws InterruptedException {
+        flushPending();
+
+        for (int i = 0; i < writers.length; i++) {
+            queue.put(END_OF_STREAM);
+        }
+
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        if (flatfileDestination != null) {
+            closeStagingWriter();
+
+            if (!failed && !flatfileDestination.mergeStagedUsers(stagingFile)) {
+                failed = true;
+            }
+        }
+
+        if (failed) {
+            mcMMO.p.getLogger().severe("Database conversion did not complete, run it again to resume from user " + checkpoint + ".");
+            return;
+        }
+
+        checkpointFile.delete();
+        stagingFile.delete();
+        logProgress(convertedUsers.get());
+    }
+
+    /**
+     * Stop the writers without finalizing, the checkpoint is kept so the conversion can be resumed.
+     */
+    public void abort() {
+        for (Thread writer : writers) {
+            if (writer != null) {
+                writer.interrupt();
+            }
+        }
+
+        closeStagingWriter();
+    }
+
+    private void flushPending() throws InterruptedException {
+        if (pendingProfiles.isEmpty() && sourcePosition == queuedPosition) {
+            return;
+        }
+
+        queue.put(new Batch(nextBatchIndex++, pendingProfiles, sourcePosition));
+        pendingProfiles = new ArrayList<>(batchSize);
+        queuedPosition = sourcePosition;
+    }
+
+    private void drainQueue() {
+        try {
+            while (true) {
+                Batch batch = queue.take();
+
+                if (batch == END_OF_STREAM) {
+                    return;
+                }
+
+                // Keep draining after a failure so the converting thread never blocks on a full queue
+                try {
+                    if (writeBatch(batch)) {
+                        completeBatch(batch);
+                    }
+                }
+                catch (RuntimeException e) {
+                    mcMMO.p.getLogger().severe("Could not write a database conversion batch: " + e.getMessage());
+                    e.printStackTrace();
+                    failed = true;
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            // Aborted, the checkpoint already reflects what was written
+        }
+    }
+
+    private boolean writeBatch(Batch batch) {
+        if (batch.profiles.isEmpty()) {
+            return true;
+        }
+
+        if (flatfileDestination != null) {
+            // Staged users must stay contiguous with the checkpoint, stop staging after a failed batch
+            if (failed) {
+                return false;
+            }
+
+            try {
+                flatfileDestination.writeStagedUsers(stagingWriter, batch.profiles);
+                return true;
+            }
+            catch (IOException e) {
+                e.printStackTrace();
+                failed = true;
+                return false;
+            }
+        }
+
+        if (!destination.saveUsers(batch.profiles)) {
+            mcMMO.p.getLogger().warning("Some users in a conversion batch could not be saved, see the errors above.");
+            failed = true;
+            return false;
+        }
+
+        return true;
+    }
+
+    private void completeBatch(Batch batch) {
+        int previous = convertedUsers.getAndAdd(batch.profiles.size());
+
+        if (previous / DatabaseManager.progressInterval != (previous + batch.profiles.size()) / DatabaseManager.progressInterval) {
+            logProgress(previous + batch.profiles.size());
+        }
+
+        synchronized (completedBatches) {
+            completedBatches.put(batch.index, batch.endPosition);
+
+            Integer endPosition;
+            int advancedTo = -1;
+
+            while ((endPosition = completedBatches.remove(contiguousBatches)) != null) {
+                advancedTo = endPosition;
+                contiguousBatches++;
+            }
+
+            if (advancedTo != -1) {
+                checkpoint = advancedTo;
+                writeCheckpoint(checkpoint);
+            }
+        }
+    }
+
+    private void logProgress(int users) {
+        double seconds = Math.max(1, System.currentTimeMillis() - startMillis) / (double) Misc.TIME_CONVERSION_FACTOR;
+        mcMMO.p.getLogger().info(String.format("Conversion progress: %d users at %.2f users/second", users, users / seconds));
+    }
+
+    private int readCheckpoint() {
+        if (!checkpointFile.exists()) {
+            return 0;
+        }
+
+        try (BufferedReader in = new BufferedReader(new FileReader(checkpointFile))) {
+            String id = in.readLine();
+            String position = in.readLine();
+
+            if (conversionId.equals(id) && position != null) {
+                return Integer.parseInt(position.trim());
+            }
+        }
+        catch (IOException | NumberFormatException e) {
+            mcMMO.p.getLogger().warning("Could not read the database conversion checkpoint, starting from the beginning.");
+        }
+
+        return 0;
+    }
+
+    private void writeCheckpoint(int position) {
+        try (FileWriter out = new FileWriter(checkpointFile)) {
+            out.write(conversionId + "\n" + position + "\n");
+        }
+        catch (IOException e) {
+            mcMMO.p.getLogger().warning("Could not write the database conversion checkpoint: " + e.getMessage());
+        }
+    }
+
+    private void closeStagingWriter() {
+        if (stagingWriter != null) {
+            try {
+                stagingWriter.close();
+            }
+            catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
+
+    private static final class Batch {
+        private final int index;
+        private final List<PlayerProfile> profiles;
+        private final int endPosition;
+
+        private Batch(int index, List<PlayerProfile> profiles, int endPosition) {
+            this.index = index;
+            this.profiles = profiles;
+            this.endPosition = endPosition;
+        }
+    }
+}
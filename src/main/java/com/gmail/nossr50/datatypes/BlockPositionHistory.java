@@ -0,0 +1,165 @@
+package com.gmail.nossr50.datatypes;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Fixed size history of block positions, the same as {@link BlockLocationHistory} without allocating anything per call.
+ * <p>
+ * Positions are packed into longs and kept in a ring buffer together with their world, a small open addressing table
+ * counts how often every position is in the buffer. Worlds are compared by identity.
+ */
+public class BlockPositionHistory {
+    private final long[] positions;
+    private final World[] worlds;
+    private int head = 0;
+    private int size = 0;
+
+    // Linear probing table, a count of 0 marks an empty slot
+    private final long[] tablePositions;
+    private final World[] tableWorlds;
+    private final int[] tableCounts;
+    private final int tableMask;
+
+    public BlockPositionHistory(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1");
+        }
+
+        positions = new long[maxSize];
+        worlds = new World[maxSize];
+
+        // Keep the table at most half full
+        int tableSize = Integer.highestOneBit(maxSize) << 2;
+        tablePositions = new long[tableSize];
+        tableWorlds = new World[tableSize];
+        tableCounts = new int[tableSize];
+        tableMask = tableSize - 1;
+    }
+
+    /**
+     * Adds a block position to the history.  If the history would exceed the max size, the least recently added position is removed
+     *
+     * @param world the world of the block
+     * @param x block x
+     * @param y block y
+     * @param z block z
+     */
+    public void add(@Nullable World world, int x, int y, int z) {
+        long position = pack(x, y, z);
+
+        if (size == positions.length) {
+            decrement(worlds[head], positions[head]);
+        } else {
+            size++;
+        }
+
+        positions[head] = position;
+        worlds[head] = world;
+        head = head + 1 == positions.length ? 0 : head + 1;
+        increment(world, position);
+    }
+
+    /**
+     * Adds a block location to the history, only the block coordinates of the location are used
+     *
+     * @param location the block location
+     */
+    public void add(@NotNull Location location) {
+        add(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Returns true if the block position is in the recorded history
+     *
+     * @param world the world of the block
+     * @param x block x
+     * @param y block y
+     * @param z block z
+     * @return true if the block position is in the recorded history
+     */
+    public boolean contains(@Nullable World world, int x, int y, int z) {
+        return find(world, pack(x, y, z)) != -1;
+    }
+
+    /**
+     * Returns true if the block location is in the recorded history, only the block coordinates of the location are used
+     *
+     * @param location the block location
+     * @return true if the block location is in the recorded history
+     */
+    public boolean contains(@NotNull Location location) {
+        return contains(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    private void increment(World world, long position) {
+        int slot = getSlot(position);
+
+        while (tableCounts[slot] != 0) {
+            if (tablePositions[slot] == position && tableWorlds[slot] == world) {
+                tableCounts[slot]++;
+                return;
+            }
+
+            slot = (slot + 1) & tableMask;
+        }
+
+        tablePositions[slot] = position;
+        tableWorlds[slot] = world;
+        tableCounts[slot] = 1;
+    }
+
+    private void decrement(World world, long position) {
+        int slot = find(world, position);
+
+        if (slot == -1 || --tableCounts[slot] > 0) {
+            return;
+        }
+
+        // Shift the following entries back so lookups never stop at the freed slot
+        int empty = slot;
+        slot = (slot + 1) & tableMask;
+
+        while (tableCounts[slot] != 0) {
+            int home = getSlot(tablePositions[slot]);
+
+            // Only move entries whose home slot is not between the freed slot and their current slot
+            if (((slot - home) & tableMask) >= ((slot - empty) & tableMask)) {
+                tablePositions[empty] = tablePositions[slot];
+                tableWorlds[empty] = tableWorlds[slot];
+                tableCounts[empty] = tableCounts[slot];
+                empty = slot;
+            }
+
+            slot = (slot + 1) & tableMask;
+        }
+
+        tableCounts[empty] = 0;
+        tableWorlds[empty] = null;
+    }
+
+    private int find(World world, long position) {
+        int slot = getSlot(position);
+
+        while (tableCounts[slot] != 0) {
+            if (tablePositions[slot] == position && tableWorlds[slot] == world) {
+                return slot;
+            }
+
+            slot = (slot + 1) & tableMask;
+        }
+
+        return -1;
+    }
+
+    private int getSlot(long position) {
+        long hash = position * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & tableMask;
+    }
+
+    private static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+    }
+}
@@ -9,15 +9,17 @@ import com.gmail.nossr50.locale.LocaleLoader;
 import com.gmail.nossr50.mcMMO;
 import com.gmail.nossr50.party.PartyManager;
 import com.gmail.nossr50.util.EventUtils;
-import com.gmail.nossr50.util.Misc;
+import com.gmail.nossr50.util.player.UserManager;
 import com.gmail.nossr50.util.sounds.SoundManager;
 import com.gmail.nossr50.util.sounds.SoundType;
+import net.kyori.adventure.audience.Audience;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.text.DecimalFormat;
 import java.util.ArrayList;
@@ -30,6 +32,9 @@ public class Party {
     private final @NotNull Predicate<CommandSender> samePartyPredicate;
     private final LinkedHashMap<UUID, String> members = new LinkedHashMap<>();
     private final List<Player> onlineMembers = new ArrayList<>();
+    private final PartyMemberPositions memberPositions = new PartyMemberPositions(this);
+    // Snapshot of the online members for party chat, which is sent off the main thread
+    private volatile @Nullable Audience chatAudience;
 
     private PartyLeader leader;
     private String name;
@@ -38,6 +43,8 @@ public class Party {
     private Party ally;
     private int level;
     private float xp;
+    // New and freshly loaded parties need to be written out, loaders clear this once they are in sync
+    private boolean changed = true;
 
     private ShareMode xpShareMode   = ShareMode.NONE;
     private ShareMode itemShareMode = ShareMode.NONE;
@@ -87,6 +94,16 @@ public class Party {
         return onlineMembers;
     }
 
+    /**
+     * Get the positions of the online members, refreshed at most once per tick
+     *
+     * @return the member position snapshot
+     */
+    public PartyMemberPositions getMemberPositions() {
+        memberPositions.refresh(Config.getInstance().getPartyShareRange());
+        return memberPositions;
+    }
+
     public List<Player> getVisibleMembers(Player player)
     {
         ArrayList<Player> visibleMembers = new ArrayList<>();
@@ -114,11 +131,40 @@ public class Party {
     }
 
     public boolean addOnlineMember(Player player) {
-        return onlineMembers.add(player);
+        boolean added = onlineMembers.add(player);
+        refreshChatAudience();
+        return added;
     }
 
     public boolean removeOnlineMember(Player player) {
-        return onlineMembers.remove(player);
+        boolean removed = onlineMembers.remove(player);
+        refreshChatAudience();
+        return removed;
+    }
+
+    /**
+     * Get the audience of online members for party chat, safe to use from any thread
+     *
+     * @return the party chat audience
+     */
+    public @NotNull Audience getChatAudience() {
+        Audience audience = chatAudience;
+        return audience != null ? audience : mcMMO.getAudiences().filter(samePartyPredicate);
+    }
+
+    /**
+     * Rebuild the party chat audience from the online members with a loaded profile, main thread only
+     */
+    public void refreshChatAudience() {
+        List<Audience> audiences = new ArrayList<>(onlineMembers.size());
+
+        for (Player member : onlineMembers) {
+            if (UserManager.getPlayer(member) != null) {
+                audiences.add(mcMMO.getAudiences().player(member));
+            }
+        }
+
+        chatAudience = Audience.audience(audiences);
     }
 
     public String getName() {
@@ -155,22 +201,27 @@ public class Party {
 
     public void setName(String name) {
         this.name = name;
+        markPartyDirty();
     }
 
     public void setLeader(PartyLeader leader) {
         this.leader = leader;
+        markPartyDirty();
     }
 
     public void setPassword(String password) {
         this.password = password;
+        markPartyDirty();
     }
 
     public void setLocked(boolean locked) {
         this.locked = locked;
+        markPartyDirty();
     }
 
     public void setAlly(Party ally) {
         this.ally = ally;
+        markPartyDirty();
     }
 
     public int getLevel() {
@@ -179,6 +230,7 @@ public class Party {
 
     public void setLevel(int level) {
         this.level = level;
+        markPartyDirty();
     }
 
     public float getXp() {
@@ -187,6 +239,7 @@ public class Party {
 
     public void setXp(float xp) {
         this.xp = xp;
+        markPartyDirty();
     }
 
     public void addXp(float xp) {
@@ -265,6 +318,7 @@ public class Party {
 
     public void setXpShareMode(ShareMode xpShareMode) {
         this.xpShareMode = xpShareMode;
+        markPartyDirty();
     }
 
     public ShareMode getXpShareMode() {
@@ -273,6 +327,7 @@ public class Party {
 
     public void setItemShareMode(ShareMode itemShareMode) {
         this.itemShareMode = itemShareMode;
+        markPartyDirty();
     }
 
     public ShareMode getItemShareMode() {
@@ -325,6 +380,25 @@ public class Party {
 
             default:
         }
+
+        markPartyDirty();
+    }
+
+    /**
+     * Whether this party changed since it was last handed to the party store
+     *
+     * @return true if the party needs saving
+     */
+    public boolean isChanged() {
+        return changed;
+    }
+
+    public void markPartyDirty() {
+        changed = true;
+    }
+
+    public void markPartySaved() {
+        changed = false;
     }
 
     public boolean hasMember(String memberName) {
@@ -385,14 +459,7 @@ public class Party {
         Party party = mcMMOPlayer.getParty();
 
         if (party != null) {
-            Player player = mcMMOPlayer.getPlayer();
-            double range = Config.getInstance().getPartyShareRange();
-
-            for (Player member : party.getOnlineMembers()) {
-                if (!player.equals(member) && member.isValid() && Misc.isNear(player.getLocation(), member.getLocation(), range)) {
-                    nearMembers.add(member);
-                }
-            }
+            party.getMemberPositions().collectNearMembers(mcMMOPlayer.getPlayer(), Config.getInstance().getPartyShareRange(), false, nearMembers);
         }
 
         return nearMembers;
@@ -0,0 +1,228 @@
+package com.gmail.nossr50.datatypes.party;
+
+import com.gmail.nossr50.mcMMO;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Snapshot of where the online members of a party are, taken at most once per server tick.
+ * <p>
+ * Range queries run against flat arrays instead of asking every member for a new {@link Location},
+ * and members are bucketed into a coarse grid so far away members are rejected before any distance math.
+ * The snapshot stays stable for the whole tick, membership changes show up on the next tick.
+ * Main thread only.
+ */
+public class PartyMemberPositions {
+    private final Party party;
+    private final Location scratchLocation = new Location(null, 0, 0, 0);
+
+    private Player[] members = new Player[0];
+    private World[] worlds = new World[0];
+    private boolean[] valid = new boolean[0];
+    // x, y, z of each member packed one after another
+    private double[] coordinates = new double[0];
+    private int[] cellX = new int[0];
+    private int[] cellZ = new int[0];
+    private int size = 0;
+    private long snapshotTick = -1;
+    private double cellSize = -1;
+
+    // Origin of the current query
+    private World originWorld;
+    private double originX;
+    private double originY;
+    private double originZ;
+    private int originCellX;
+    private int originCellZ;
+
+    public PartyMemberPositions(@NotNull Party party) {
+        this.party = party;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Player getMember(int index) {
+        return members[index];
+    }
+
+    /**
+     * Count the members near the origin player, not including the origin itself.
+     *
+     * @param origin the player at the center of the query
+     * @param range the share range, 0 means unlimited within the same world
+     * @param visibleOnly only count members the origin can see
+     * @return the number of near members
+     */
+    public int countNearMembers(@NotNull Player origin, double range, boolean visibleOnly) {
+        loadOrigin(origin, range);
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (isNearOrigin(i, origin, range, visibleOnly)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Check whether there is at least one member near the origin player.
+     *
+     * @param origin the player at the center of the query
+     * @param range the share range, 0 means unlimited within the same world
+     * @return true if any other member is near
+     */
+    public boolean hasNearMembers(@NotNull Player origin, double range) {
+        loadOrigin(origin, range);
+
+        for (int i = 0; i < size; i++) {
+            if (isNearOrigin(i, origin, range, false)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Check whether the member at the given index is near the origin player.
+     *
+     * @param index index of the member in this snapshot
+     * @param origin the player at the center of the query
+     * @param range the share range, 0 means unlimited within the same world
+     * @param visibleOnly only accept members the origin can see
+     * @return true if the member is not the origin and is near it
+     */
+    public boolean isNearMember(int index, @NotNull Player origin, double range, boolean visibleOnly) {
+        loadOrigin(origin, range);
+        return isNearOrigin(index, origin, range, visibleOnly);
+    }
+
+    /**
+     * Add the members near the origin player to a list, not including the origin itself.
+     *
+     * @param origin the player at the center of the query
+     * @param range the share range, 0 means unlimited within the same world
+     * @param visibleOnly only add members the origin can see
+     * @param nearMembers the list to add to
+     */
+    public void collectNearMembers(@NotNull Player origin, double range, boolean visibleOnly, @NotNull List<Player> nearMembers) {
+        loadOrigin(origin, range);
+
+        for (int i = 0; i < size; i++) {
+            if (isNearOrigin(i, origin, range, visibleOnly)) {
+                nearMembers.add(members[i]);
+            }
+        }
+    }
+
+    /**
+     * Rebuild the snapshot if it was taken on an earlier tick.
+     *
+     * @param range the share range, used as the grid cell size
+     */
+    void refresh(double range) {
+        long currentTick = mcMMO.getTickTimerWheel().getCurrentTick();
+
+        if (currentTick == snapshotTick && range == cellSize) {
+            return;
+        }
+
+        snapshotTick = currentTick;
+        cellSize = range;
+
+        List<Player> onlineMembers = party.getOnlineMembers();
+        size = onlineMembers.size();
+
+        if (members.length < size) {
+            int capacity = Math.max(size, members.length * 2);
+
+            members = new Player[capacity];
+            worlds = new World[capacity];
+            valid = new boolean[capacity];
+            coordinates = new double[capacity * 3];
+            cellX = new int[capacity];
+            cellZ = new int[capacity];
+        }
+
+        for (int i = 0; i < size; i++) {
+            Player member = onlineMembers.get(i);
+            member.getLocation(scratchLocation);
+
+            members[i] = member;
+            worlds[i] = scratchLocation.getWorld();
+            valid[i] = member.isValid();
+            coordinates[i * 3] = scratchLocation.getX();
+            coordinates[i * 3 + 1] = scratchLocation.getY();
+            coordinates[i * 3 + 2] = scratchLocation.getZ();
+            cellX[i] = getCell(scratchLocation.getX());
+            cellZ[i] = getCell(scratchLocation.getZ());
+        }
+
+        // Don't hold on to players who left
+        for (int i = size; i < members.length && members[i] != null; i++) {
+            members[i] = null;
+            worlds[i] = null;
+        }
+    }
+
+    private void loadOrigin(Player origin, double range) {
+        refresh(range);
+
+        for (int i = 0; i < size; i++) {
+            if (members[i] == origin) {
+                originWorld = worlds[i];
+                originX = coordinates[i * 3];
+                originY = coordinates[i * 3 + 1];
+                originZ = coordinates[i * 3 + 2];
+                originCellX = cellX[i];
+                originCellZ = cellZ[i];
+                return;
+            }
+        }
+
+        // Not part of this tick's snapshot yet
+        origin.getLocation(scratchLocation);
+        originWorld = scratchLocation.getWorld();
+        originX = scratchLocation.getX();
+        originY = scratchLocation.getY();
+        originZ = scratchLocation.getZ();
+        originCellX = getCell(originX);
+        originCellZ = getCell(originZ);
+    }
+
+    private boolean isNearOrigin(int index, Player origin, double range, boolean visibleOnly) {
+        Player member = members[index];
+
+        if (member.equals(origin) || !valid[index] || worlds[index] != originWorld) {
+            return false;
+        }
+
+        if (range != 0) {
+            if (Math.abs(cellX[index] - originCellX) > 1 || Math.abs(cellZ[index] - originCellZ) > 1) {
+                return false;
+            }
+
+            double dx = coordinates[index * 3] - originX;
+            double dy = coordinates[index * 3 + 1] - originY;
+            double dz = coordinates[index * 3 + 2] - originZ;
+
+            if (dx * dx + dy * dy + dz * dz >= range * range) {
+                return false;
+            }
+        }
+
+        return !visibleOnly || origin.canSee(member);
+    }
+
+    private int getCell(double coordinate) {
+        return cellSize > 0 ? (int) Math.floor(coordinate / cellSize) : 0;
+    }
+}
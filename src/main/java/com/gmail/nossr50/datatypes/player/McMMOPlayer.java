@@ -587,7 +587,7 @@ public class McMMOPlayer implements Identified {
             return;
         }
 
-        if (!Config.getInstance().getPartyXpNearMembersNeeded() || !PartyManager.getNearMembers(this).isEmpty()) {
+        if (!Config.getInstance().getPartyXpNearMembersNeeded() || PartyManager.hasNearMembers(this)) {
             party.applyXpGain(modifyXpGain(skill, xp));
         }
     }
@@ -885,7 +885,7 @@ public class McMMOPlayer implements Identified {
         }
 
         setToolPreparationMode(tool, false);
-        new AbilityDisableTask(this, ability).runTaskLater(mcMMO.p, ticks * Misc.TICK_CONVERSION_FACTOR);
+        new AbilityDisableTask(this, ability).schedule(ticks * Misc.TICK_CONVERSION_FACTOR);
     }
 
     public void processAbilityActivation(PrimarySkillType skill) {
@@ -947,7 +947,7 @@ public class McMMOPlayer implements Identified {
             }
 
             setToolPreparationMode(tool, true);
-            new ToolLowerTask(this, tool).runTaskLater(mcMMO.p, 4 * Misc.TICK_CONVERSION_FACTOR);
+            new ToolLowerTask(this, tool).schedule(4 * Misc.TICK_CONVERSION_FACTOR);
         }
     }
 
@@ -1078,6 +1078,7 @@ public class McMMOPlayer implements Identified {
         }
 
         UserManager.remove(thisPlayer);
+        NotificationManager.getDispatcher().removePlayer(thisPlayer);
 
         if(Config.getInstance().getScoreboardsEnabled())
             ScoreboardManager.teardownPlayer(thisPlayer);
@@ -280,7 +280,7 @@ public class Roll extends AcrobaticsSubSkill {
             return true;
         }
 
-        if(UserManager.getPlayer(player).getAcrobaticsManager().hasFallenInLocationBefore(getBlockLocation(player)))
+        if(mcMMOPlayer.getAcrobaticsManager().hasFallenAtCurrentLocationBefore())
         {
             if(mcMMOPlayer.isDebugMode()) {
                 mcMMOPlayer.getPlayer().sendMessage("Acrobatics XP Prevented: Fallen in location before");
@@ -422,7 +422,7 @@ public class Roll extends AcrobaticsSubSkill {
 
     public void addFallLocation(Player player)
     {
-        UserManager.getPlayer(player).getAcrobaticsManager().addLocationToFallMap(getBlockLocation(player));
+        UserManager.getPlayer(player).getAcrobaticsManager().addCurrentLocationToFallMap();
     }
 
     public Location getBlockLocation(Player player)
@@ -5,7 +5,6 @@ import com.gmail.nossr50.config.Config;
 import com.gmail.nossr50.config.HiddenConfig;
 import com.gmail.nossr50.config.WorldBlacklist;
 import com.gmail.nossr50.config.experience.ExperienceConfig;
-import com.gmail.nossr50.datatypes.meta.BonusDropMeta;
 import com.gmail.nossr50.datatypes.player.McMMOPlayer;
 import com.gmail.nossr50.datatypes.skills.PrimarySkillType;
 import com.gmail.nossr50.datatypes.skills.SuperAbilityType;
@@ -13,6 +12,7 @@ import com.gmail.nossr50.datatypes.skills.ToolType;
 import com.gmail.nossr50.events.fake.FakeBlockBreakEvent;
 import com.gmail.nossr50.events.fake.FakeBlockDamageEvent;
 import com.gmail.nossr50.mcMMO;
+import com.gmail.nossr50.runnables.skills.BleedTimerTask;
 import com.gmail.nossr50.skills.alchemy.Alchemy;
 import com.gmail.nossr50.skills.excavation.ExcavationManager;
 import com.gmail.nossr50.skills.herbalism.HerbalismManager;
@@ -37,7 +37,9 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.block.*;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 
 public class BlockListener implements Listener {
     private final mcMMO plugin;
@@ -49,6 +51,12 @@ public class BlockListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onBlockDropItemEvent(BlockDropItemEvent event)
     {
+        //Most blocks aren't marked for bonus drops
+        int bonusCount = mcMMO.getTransientBlockMarkers().getBonusDrops(event.getBlock());
+
+        if(bonusCount <= 0)
+            return;
+
         //Track how many "things" are being dropped
         HashSet<Material> uniqueMaterials = new HashSet<>();
         boolean dontRewardTE = false; //If we suspect TEs are mixed in with other things don't reward bonus drops for anything that isn't a block
@@ -91,19 +99,13 @@ public class BlockListener implements Listener {
                     }
                 }
 
-                if (event.getBlock().getMetadata(mcMMO.BONUS_DROPS_METAKEY).size() > 0) {
-                    BonusDropMeta bonusDropMeta = (BonusDropMeta) event.getBlock().getMetadata(mcMMO.BONUS_DROPS_METAKEY).get(0);
-                    int bonusCount = bonusDropMeta.asInt();
-
-                    for (int i = 0; i < bonusCount; i++) {
-                        Misc.spawnItemNaturally(event.getBlockState().getLocation(), is, ItemSpawnReason.BONUS_DROPS);
-                    }
+                for (int i = 0; i < bonusCount; i++) {
+                    Misc.spawnItemNaturally(event.getBlockState().getLocation(), is, ItemSpawnReason.BONUS_DROPS);
                 }
             }
         }
 
-        if(event.getBlock().hasMetadata(mcMMO.BONUS_DROPS_METAKEY))
-            event.getBlock().removeMetadata(mcMMO.BONUS_DROPS_METAKEY, plugin);
+        mcMMO.getTransientBlockMarkers().removeBonusDrops(event.getBlock());
     }
 
     /**
@@ -122,12 +124,13 @@ public class BlockListener implements Listener {
         }
 
         BlockFace direction = event.getDirection();
-        Block movedBlock;
+        List<Block> movedBlocks = new ArrayList<>(event.getBlocks().size());
 
         for (Block b : event.getBlocks()) {
-            movedBlock = b.getRelative(direction);
-            mcMMO.getPlaceStore().setTrue(movedBlock);
+            movedBlocks.add(b.getRelative(direction));
         }
+
+        mcMMO.getPlaceStore().setTrue(movedBlocks);
     }
 
     /**
@@ -147,12 +150,25 @@ public class BlockListener implements Listener {
 
         // Get opposite direction so we get correct block
         BlockFace direction = event.getDirection();
-        Block movedBlock = event.getBlock().getRelative(direction);
-        mcMMO.getPlaceStore().setTrue(movedBlock);
+        List<Block> movedBlocks = new ArrayList<>(event.getBlocks().size() + 1);
+        movedBlocks.add(event.getBlock().getRelative(direction));
 
         for (Block block : event.getBlocks()) {
-            movedBlock = block.getRelative(direction);
-            mcMMO.getPlaceStore().setTrue(movedBlock);
+            movedBlocks.add(block.getRelative(direction));
+        }
+
+        mcMMO.getPlaceStore().setTrue(movedBlocks);
+    }
+
+    /**
+     * Monitor armor equipped by dispensers, it changes the armor count of a bleeding player.
+     *
+     * @param event The event to monitor
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockDispenseArmor(BlockDispenseArmorEvent event) {
+        if (event.getTargetEntity() instanceof Player) {
+            BleedTimerTask.invalidateArmor((Player) event.getTargetEntity());
         }
     }
 
@@ -210,6 +226,11 @@ public class BlockListener implements Listener {
 //      if (!Tag.LOGS.isTagged(event.getBlockReplacedState().getType()) || !Tag.LOGS.isTagged(event.getBlockPlaced().getType()))
         mcMMO.getPlaceStore().setTrue(blockState);
 
+        /* SMELTING - A new furnace has no owner yet */
+        if (blockState instanceof Furnace) {
+            mcMMO.getSmeltingTracker().forgetFurnace(event.getBlock());
+        }
+
         /* WORLD BLACKLIST CHECK */
         if(WorldBlacklist.isWorldBlacklisted(event.getBlock().getWorld())) {
             return;
@@ -301,6 +322,11 @@ public class BlockListener implements Listener {
             Alchemy.brewingStandMap.get(location).cancelBrew();
         }
 
+        /* SMELTING - Forget the owner of the furnace */
+        if (blockState instanceof Furnace) {
+            mcMMO.getSmeltingTracker().forgetFurnace(event.getBlock());
+        }
+
         Player player = event.getPlayer();
 
         if (!UserManager.hasPlayerDataKey(player) || player.getGameMode() == GameMode.CREATIVE) {
@@ -1,6 +1,9 @@
 package com.gmail.nossr50.listeners;
 
 import com.gmail.nossr50.mcMMO;
+import com.gmail.nossr50.skills.archery.Archery;
+import com.gmail.nossr50.util.compat.layers.persistentdata.AbstractPersistentDataLayer;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -16,5 +19,16 @@ public class ChunkListener implements Listener {
         for(LivingEntity livingEntity : matchingEntities) {
             mcMMO.getTransientEntityTracker().removeSummon(livingEntity, null, false);
         }
+
+        //Cached mob flags are read again if the mobs come back
+        AbstractPersistentDataLayer persistentDataLayer = mcMMO.getCompatibilityManager().getPersistentDataLayer();
+
+        for(Entity entity : event.getChunk().getEntities()) {
+            if(entity instanceof LivingEntity) {
+                persistentDataLayer.invalidateMobFlags((LivingEntity) entity);
+                //Arrows stuck in unloaded mobs are no longer retrieved
+                Archery.removeFromTracker((LivingEntity) entity);
+            }
+        }
     }
 }
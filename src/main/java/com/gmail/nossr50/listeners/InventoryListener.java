@@ -8,6 +8,7 @@ import com.gmail.nossr50.datatypes.skills.SubSkillType;
 import com.gmail.nossr50.events.fake.FakeBrewEvent;
 import com.gmail.nossr50.mcMMO;
 import com.gmail.nossr50.runnables.player.PlayerUpdateInventoryTask;
+import com.gmail.nossr50.runnables.skills.BleedTimerTask;
 import com.gmail.nossr50.skills.alchemy.Alchemy;
 import com.gmail.nossr50.skills.alchemy.AlchemyPotionBrewer;
 import com.gmail.nossr50.util.ItemUtils;
@@ -16,10 +17,8 @@ import com.gmail.nossr50.util.player.UserManager;
 import com.gmail.nossr50.util.skills.SkillUtils;
 import com.gmail.nossr50.worldguard.WorldGuardManager;
 import com.gmail.nossr50.worldguard.WorldGuardUtils;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.OfflinePlayer;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
 import org.bukkit.block.BrewingStand;
@@ -55,39 +54,30 @@ public class InventoryListener implements Listener {
 
         Furnace furnace = (Furnace) furnaceState;
 
-        OfflinePlayer offlinePlayer = mcMMO.getSmeltingTracker().getFurnaceOwner(furnace);
+        //Only online owners with a loaded profile
+        McMMOPlayer mcMMOPlayer = mcMMO.getSmeltingTracker().getFurnaceOwnerProfile(furnaceBlock);
 
-        if(offlinePlayer != null && offlinePlayer.isOnline()) {
-
-            Player player = Bukkit.getPlayer(offlinePlayer.getUniqueId());
-
-            if(player != null) {
-                if (!Permissions.isSubSkillEnabled(player, SubSkillType.SMELTING_FUEL_EFFICIENCY)) {
-                    return;
-                }
-
-                //Profile doesn't exist
-                if(UserManager.getOfflinePlayer(offlinePlayer) == null)
-                {
-                    return;
-                }
+        if(mcMMOPlayer != null) {
+            Player player = mcMMOPlayer.getPlayer();
 
+            if (!Permissions.isSubSkillEnabled(player, SubSkillType.SMELTING_FUEL_EFFICIENCY)) {
+                return;
+            }
 
-                boolean debugMode = player.isOnline() && UserManager.getPlayer(player).isDebugMode();
+            boolean debugMode = mcMMOPlayer.isDebugMode();
 
-                if(debugMode) {
-                    player.sendMessage("FURNACE FUEL EFFICIENCY DEBUG REPORT");
-                    player.sendMessage("Furnace - "+furnace.hashCode());
-                    player.sendMessage("Furnace Type: "+furnaceBlock.getType().toString());
-                    player.sendMessage("Burn Length before Fuel Efficiency is applied - "+event.getBurnTime());
-                }
+            if(debugMode) {
+                player.sendMessage("FURNACE FUEL EFFICIENCY DEBUG REPORT");
+                player.sendMessage("Furnace - "+furnace.hashCode());
+                player.sendMessage("Furnace Type: "+furnaceBlock.getType().toString());
+                player.sendMessage("Burn Length before Fuel Efficiency is applied - "+event.getBurnTime());
+            }
 
-                event.setBurnTime(UserManager.getPlayer(player).getSmeltingManager().fuelEfficiency(event.getBurnTime()));
+            event.setBurnTime(mcMMOPlayer.getSmeltingManager().fuelEfficiency(event.getBurnTime()));
 
-                if(debugMode) {
-                    player.sendMessage("New Furnace Burn Length (after applying fuel efficiency) "+event.getBurnTime());
-                    player.sendMessage("");
-                }
+            if(debugMode) {
+                player.sendMessage("New Furnace Burn Length (after applying fuel efficiency) "+event.getBurnTime());
+                player.sendMessage("");
             }
         }
 
@@ -99,26 +89,18 @@ public class InventoryListener implements Listener {
         if(WorldBlacklist.isWorldBlacklisted(event.getBlock().getWorld()))
             return;
 
-        BlockState blockState = event.getBlock().getState(); //Furnaces can only be cast from a BlockState not a Block
         ItemStack smelting = event.getSource();
 
         if (!ItemUtils.isSmeltable(smelting)) {
             return;
         }
 
-        if(blockState instanceof Furnace) {
-            Furnace furnace = (Furnace) blockState;
-            OfflinePlayer offlinePlayer = mcMMO.getSmeltingTracker().getFurnaceOwner(furnace);
-
-            if(offlinePlayer != null) {
+        //The block state is only read the first time this furnace is seen
+        McMMOPlayer mcMMOPlayer = mcMMO.getSmeltingTracker().getFurnaceOwnerProfile(event.getBlock());
 
-                McMMOPlayer offlineProfile = UserManager.getOfflinePlayer(offlinePlayer);
-
-                //Profile doesn't exist
-                if(offlineProfile != null) {
-                    event.setResult(offlineProfile.getSmeltingManager().smeltProcessing(smelting, event.getResult()));
-                }
-            }
+        //Profile doesn't exist
+        if(mcMMOPlayer != null) {
+            event.setResult(mcMMOPlayer.getSmeltingManager().smeltProcessing(smelting, event.getResult()));
         }
     }
 
@@ -292,6 +274,9 @@ public class InventoryListener implements Listener {
 
     @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
     public void onInventoryDragEvent(InventoryDragEvent event) {
+        //Armor may have been equipped
+        BleedTimerTask.invalidateArmor(event.getWhoClicked());
+
         /* WORLD BLACKLIST CHECK */
         if(WorldBlacklist.isWorldBlacklisted(event.getWhoClicked().getWorld()))
             return;
@@ -361,18 +346,19 @@ public class InventoryListener implements Listener {
 
     @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
     public void onInventoryMoveItemEvent(InventoryMoveItemEvent event) {
-        /* WORLD BLACKLIST CHECK */
-
-        if(event.getSource().getLocation() != null)
-            if(WorldBlacklist.isWorldBlacklisted(event.getSource().getLocation().getWorld()))
-                return;
-
+        //Most transfers are hoppers feeding chests, reject them before looking at any locations
         Inventory inventory = event.getDestination();
 
         if (!(inventory instanceof BrewerInventory)) {
             return;
         }
 
+        /* WORLD BLACKLIST CHECK */
+        Location sourceLocation = event.getSource().getLocation();
+
+        if(sourceLocation != null && WorldBlacklist.isWorldBlacklisted(sourceLocation.getWorld()))
+            return;
+
         InventoryHolder holder = inventory.getHolder();
 
         if (!(holder instanceof BrewingStand)) {
@@ -398,6 +384,9 @@ public class InventoryListener implements Listener {
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onInventoryClickEvent(InventoryClickEvent event) {
+        //Armor may have been equipped or taken off
+        BleedTimerTask.invalidateArmor(event.getWhoClicked());
+
         if(event.getCurrentItem() == null) {
             return;
         }
@@ -13,6 +13,7 @@ import com.gmail.nossr50.locale.LocaleLoader;
 import com.gmail.nossr50.mcMMO;
 import com.gmail.nossr50.party.ShareHandler;
 import com.gmail.nossr50.runnables.player.PlayerProfileLoadingTask;
+import com.gmail.nossr50.runnables.skills.BleedTimerTask;
 import com.gmail.nossr50.skills.fishing.FishingManager;
 import com.gmail.nossr50.skills.herbalism.HerbalismManager;
 import com.gmail.nossr50.skills.mining.MiningManager;
@@ -523,6 +524,11 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
+        plugin.getChatManager().removeFromAudiences(player);
+
+        if(WorldGuardUtils.isWorldGuardLoaded()) {
+            WorldGuardManager.getInstance().invalidate(player);
+        }
 
         if (!UserManager.hasPlayerDataKey(player)) {
             return;
@@ -551,6 +557,7 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
+        plugin.getChatManager().refreshAudiences(player);
 
         //Delay loading for 3 seconds in case the player has a save task running, its hacky but it should do the trick
         new PlayerProfileLoadingTask(player).runTaskLaterAsynchronously(mcMMO.p, 60);
@@ -727,6 +734,9 @@ public class PlayerListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerInteractMonitor(PlayerInteractEvent event) {
+        //Armor can be equipped by right clicking it, right clicking air arrives cancelled
+        BleedTimerTask.invalidateArmor(event.getPlayer());
+
         /* WORLD BLACKLIST CHECK */
         if(WorldBlacklist.isWorldBlacklisted(event.getPlayer().getWorld()))
             return;
@@ -970,4 +980,14 @@ public class PlayerListener implements Listener {
 
         mcMMO.getHolidayManager().handleStatisticEvent(event);
     }
+
+    /**
+     * Monitor PlayerItemBreakEvents, broken armor changes the armor count of a bleeding player.
+     *
+     * @param event The event to monitor
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerItemBreak(PlayerItemBreakEvent event) {
+        BleedTimerTask.invalidateArmor(event.getPlayer());
+    }
 }
@@ -9,6 +9,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.event.world.StructureGrowEvent;
+import org.bukkit.event.world.WorldLoadEvent;
 import org.bukkit.event.world.WorldUnloadEvent;
 
 public class WorldListener implements Listener {
@@ -38,6 +39,16 @@ public class WorldListener implements Listener {
         }
     }
 
+    /**
+     * Monitor WorldLoad events.
+     *
+     * @param event The event to watch
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+        WorldBlacklist.worldLoaded(event.getWorld());
+    }
+
     /**
      * Monitor WorldUnload events.
      *
@@ -46,7 +57,12 @@ public class WorldListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onWorldUnload(WorldUnloadEvent event) {
         /* WORLD BLACKLIST CHECK */
-        if(WorldBlacklist.isWorldBlacklisted(event.getWorld()))
+        boolean isBlacklisted = WorldBlacklist.isWorldBlacklisted(event.getWorld());
+        WorldBlacklist.worldUnloaded(event.getWorld());
+        mcMMO.getSmeltingTracker().forgetWorld(event.getWorld());
+        mcMMO.getTransientBlockMarkers().unloadWorld(event.getWorld());
+
+        if(isBlacklisted)
             return;
 
         mcMMO.getPlaceStore().unloadWorld(event.getWorld());
@@ -59,12 +75,14 @@ public class WorldListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        mcMMO.getTransientBlockMarkers().chunkUnloaded(chunk.getX(), chunk.getZ(), event.getWorld());
+        mcMMO.getSmeltingTracker().forgetChunk(chunk.getX(), chunk.getZ(), event.getWorld());
+
         /* WORLD BLACKLIST CHECK */
         if(WorldBlacklist.isWorldBlacklisted(event.getWorld()))
             return;
 
-        Chunk chunk = event.getChunk();
-
         mcMMO.getPlaceStore().chunkUnloaded(chunk.getX(), chunk.getZ(), event.getWorld());
     }
 }
@@ -17,7 +17,7 @@ import java.util.logging.Level;
 
 public final class LocaleLoader {
     private static final String BUNDLE_ROOT = "com.gmail.nossr50.locale.locale";
-    private static Map<String, String> bundleCache = new HashMap<>();
+    private static Map<String, LocaleTemplate> templateCache = new HashMap<>();
     private static ResourceBundle bundle = null;
     private static ResourceBundle filesystemBundle = null;
     private static ResourceBundle enBundle = null;
@@ -40,8 +40,7 @@ public final class LocaleLoader {
             initialize();
         }
 
-        String rawMessage = bundleCache.computeIfAbsent(key, LocaleLoader::getRawString);
-        return formatString(rawMessage, messageArguments);
+        return getTemplate(key).format(messageArguments);
     }
 
     //TODO: Remove this hacky crap with something better later
@@ -57,8 +56,18 @@ public final class LocaleLoader {
             initialize();
         }
 
-        String rawMessage = bundleCache.computeIfAbsent(key, LocaleLoader::getRawString);
-        return formatComponent(rawMessage, messageArguments);
+        return getTemplate(key).formatComponent(messageArguments);
+    }
+
+    private static LocaleTemplate getTemplate(String key) {
+        LocaleTemplate template = templateCache.get(key);
+
+        if (template == null) {
+            template = new LocaleTemplate(getRawString(key));
+            templateCache.put(key, template);
+        }
+
+        return template;
     }
 
     /**
@@ -68,7 +77,7 @@ public final class LocaleLoader {
         bundle = null;
         filesystemBundle = null;
         enBundle = null;
-        bundleCache = new HashMap<>(); // Cheaper to replace than clear()
+        templateCache = new HashMap<>(); // Cheaper to replace than clear()
         initialize();
     }
 
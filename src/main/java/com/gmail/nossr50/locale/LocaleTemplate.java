@@ -0,0 +1,150 @@
+package com.gmail.nossr50.locale;
+
+import com.gmail.nossr50.util.text.TextUtils;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TextReplacementConfig;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * A locale message compiled once per key.
+ * <p>
+ * The colors are applied to the message when it is compiled and the {@link MessageFormat} is parsed on first use,
+ * so formatting only has to substitute the arguments. Messages without any arguments are returned as shared instances.
+ */
+final class LocaleTemplate {
+    private static final Pattern ARGUMENT_PATTERN = Pattern.compile("\\{(\\d+)}");
+
+    private final String rawMessage;
+    private final String coloredMessage;
+    private final boolean hasArguments;
+
+    private MessageFormat format;
+    private TextComponent component;
+    // Whether the component can be built by replacing plain {n} placeholders in the colorized message
+    private Boolean componentTemplate;
+
+    LocaleTemplate(@NotNull String rawMessage) {
+        this.rawMessage = rawMessage;
+        this.coloredMessage = LocaleLoader.addColors(rawMessage);
+        this.hasArguments = rawMessage.indexOf('{') != -1;
+    }
+
+    @NotNull String format(@Nullable Object... messageArguments) {
+        if (messageArguments == null || !hasArguments) {
+            return coloredMessage;
+        }
+
+        MessageFormat messageFormat = getFormat();
+        Object[] arguments = colorArguments(messageArguments);
+
+        synchronized (messageFormat) {
+            return messageFormat.format(arguments);
+        }
+    }
+
+    @NotNull TextComponent formatComponent(@Nullable Object... messageArguments) {
+        if (messageArguments == null || !hasArguments) {
+            return getComponent();
+        }
+
+        if (!isComponentTemplate()) {
+            return LocaleLoader.formatComponent(rawMessage, messageArguments);
+        }
+
+        return getComponent().replaceText(TextReplacementConfig.builder()
+                .match(ARGUMENT_PATTERN)
+                .replacement((matchResult, builder) -> {
+                    int index = Integer.parseInt(matchResult.group(1));
+
+                    if (index >= messageArguments.length) {
+                        return builder;
+                    }
+
+                    return TextUtils.colorizeText(formatArgument(messageArguments[index]));
+                })
+                .build());
+    }
+
+    private synchronized @NotNull MessageFormat getFormat() {
+        if (format == null) {
+            format = new MessageFormat(coloredMessage.replace("'", "''"));
+        }
+
+        return format;
+    }
+
+    private synchronized @NotNull TextComponent getComponent() {
+        if (component == null) {
+            component = TextUtils.colorizeText(rawMessage);
+        }
+
+        return component;
+    }
+
+    private synchronized boolean isComponentTemplate() {
+        if (componentTemplate == null) {
+            // Typed arguments like {0,number} and links which could contain a placeholder need the full format
+            boolean simpleArguments = !rawMessage.contains("http");
+
+            for (Format argumentFormat : getFormat().getFormats()) {
+                if (argumentFormat != null) {
+                    simpleArguments = false;
+                    break;
+                }
+            }
+
+            componentTemplate = simpleArguments;
+        }
+
+        return componentTemplate;
+    }
+
+    /**
+     * Colors used to be applied after formatting, so colors in the arguments keep working
+     */
+    private static Object[] colorArguments(Object[] messageArguments) {
+        Object[] arguments = messageArguments;
+
+        for (int i = 0; i < messageArguments.length; i++) {
+            if (messageArguments[i] instanceof String) {
+                String argument = (String) messageArguments[i];
+
+                if (argument.indexOf('&') != -1 || argument.contains("[[")) {
+                    if (arguments == messageArguments) {
+                        arguments = messageArguments.clone();
+                    }
+
+                    arguments[i] = LocaleLoader.addColors(argument);
+                }
+            }
+        }
+
+        return arguments;
+    }
+
+    /**
+     * Formats a single argument the way {@link MessageFormat} formats a plain placeholder
+     */
+    private static String formatArgument(Object argument) {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+
+        if (argument instanceof Number) {
+            return NumberFormat.getInstance(locale).format(argument);
+        }
+
+        if (argument instanceof Date) {
+            return DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(argument);
+        }
+
+        return String.valueOf(argument);
+    }
+}
@@ -21,7 +21,9 @@ import com.gmail.nossr50.listeners.*;
 import com.gmail.nossr50.party.PartyManager;
 import com.gmail.nossr50.runnables.CheckDateTask;
 import com.gmail.nossr50.runnables.SaveTimerTask;
+import com.gmail.nossr50.runnables.ServerTickTask;
 import com.gmail.nossr50.runnables.backups.CleanBackupsTask;
+import com.gmail.nossr50.runnables.chat.ChatAudienceRefreshTask;
 import com.gmail.nossr50.runnables.commands.NotifySquelchReminderTask;
 import com.gmail.nossr50.runnables.database.UserPurgeTask;
 import com.gmail.nossr50.runnables.party.PartyAutoKickTask;
@@ -40,6 +42,7 @@ import com.gmail.nossr50.skills.salvage.salvageables.SimpleSalvageableManager;
 import com.gmail.nossr50.util.*;
 import com.gmail.nossr50.util.blockmeta.ChunkManager;
 import com.gmail.nossr50.util.blockmeta.ChunkManagerFactory;
+import com.gmail.nossr50.util.blockmeta.TransientBlockMarkers;
 import com.gmail.nossr50.util.commands.CommandRegistrationManager;
 import com.gmail.nossr50.util.compat.CompatibilityManager;
 import com.gmail.nossr50.util.experience.FormulaManager;
@@ -47,6 +50,7 @@ import com.gmail.nossr50.util.platform.PlatformManager;
 import com.gmail.nossr50.util.platform.ServerSoftwareType;
 import com.gmail.nossr50.util.player.PlayerLevelUtils;
 import com.gmail.nossr50.util.player.UserManager;
+import com.gmail.nossr50.util.scheduler.TickTimerWheel;
 import com.gmail.nossr50.util.scoreboards.ScoreboardManager;
 import com.gmail.nossr50.util.skills.RankUtils;
 import com.gmail.nossr50.util.skills.SmeltingTracker;
@@ -88,6 +92,8 @@ public class mcMMO extends JavaPlugin {
     private static ChatManager chatManager;
     private static CommandManager commandManager; //ACF
     private static TransientEntityTracker transientEntityTracker;
+    private static TickTimerWheel tickTimerWheel;
+    private static TransientBlockMarkers transientBlockMarkers;
     private static boolean serverShutdownExecuted = false;
 
     /* Adventure */
@@ -183,6 +189,8 @@ public class mcMMO extends JavaPlugin {
             //Store this value so other plugins can check it
             isRetroModeEnabled = Config.getInstance().getIsRetroMode();
 
+            BleedTimerTask.loadSettings();
+
             if (getServer().getName().equals("Cauldron") || getServer().getName().equals("MCPC+")) {
                 checkModConfigs();
             }
@@ -293,6 +301,8 @@ public class mcMMO extends JavaPlugin {
         commandManager = new CommandManager(this);
 
         transientEntityTracker = new TransientEntityTracker();
+        tickTimerWheel = new TickTimerWheel();
+        transientBlockMarkers = new TransientBlockMarkers();
         setServerShutdown(false); //Reset flag, used to make decisions about async saves
     }
 
@@ -337,7 +347,7 @@ public class mcMMO extends JavaPlugin {
             UserManager.saveAll();      // Make sure to save player information if the server shuts down
             UserManager.clearAll();
             Alchemy.finishAllBrews();   // Finish all partially complete AlchemyBrewTasks to prevent vanilla brewing continuation on restart
-            PartyManager.saveParties(); // Save our parties
+            PartyManager.saveParties(true); // Save our parties
 
             //TODO: Needed?
             if(Config.getInstance().getScoreboardsEnabled())
@@ -612,6 +622,9 @@ public class mcMMO extends JavaPlugin {
     }
 
     private void scheduleTasks() {
+        // Server tick counter used by per-tick caches, also drives the timer wheel
+        new ServerTickTask().runTaskTimer(this, 1, 1);
+
         // Periodic save timer (Saves every 10 minutes by default)
         long saveIntervalTicks = Config.getInstance().getSaveInterval() * 1200;
         new SaveTimerTask().runTaskTimer(this, saveIntervalTicks, saveIntervalTicks);
@@ -619,9 +632,6 @@ public class mcMMO extends JavaPlugin {
         // Cleanup the backups folder
         new CleanBackupsTask().runTaskAsynchronously(mcMMO.p);
 
-        // Bleed timer (Runs every 0.5 seconds)
-        new BleedTimerTask().runTaskTimer(this, Misc.TICK_CONVERSION_FACTOR, (Misc.TICK_CONVERSION_FACTOR / 2));
-
         // Old & Powerless User remover
         long purgeIntervalTicks = Config.getInstance().getPurgeInterval() * 60L * 60L * Misc.TICK_CONVERSION_FACTOR;
 
@@ -642,6 +652,9 @@ public class mcMMO extends JavaPlugin {
             new PartyAutoKickTask().runTaskTimer(this, kickIntervalTicks, kickIntervalTicks);
         }
 
+        // Refresh the cached admin chat audience, permissions can change at any time
+        new ChatAudienceRefreshTask().runTaskTimer(this, 1, 5 * Misc.TICK_CONVERSION_FACTOR);
+
         // Update power level tag scoreboards
         new PowerLevelUpdatingTask().runTaskTimer(this, 2 * Misc.TICK_CONVERSION_FACTOR, 2 * Misc.TICK_CONVERSION_FACTOR);
 
@@ -733,6 +746,14 @@ public class mcMMO extends JavaPlugin {
         return transientEntityTracker;
     }
 
+    public static TickTimerWheel getTickTimerWheel() {
+        return tickTimerWheel;
+    }
+
+    public static TransientBlockMarkers getTransientBlockMarkers() {
+        return transientBlockMarkers;
+    }
+
     public static synchronized boolean isServerShutdownExecuted() {
         return serverShutdownExecuted;
     }
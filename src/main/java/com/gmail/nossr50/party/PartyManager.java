@@ -15,27 +15,30 @@ import com.gmail.nossr50.events.party.McMMOPartyChangeEvent;
 import com.gmail.nossr50.events.party.McMMOPartyChangeEvent.EventReason;
 import com.gmail.nossr50.locale.LocaleLoader;
 import com.gmail.nossr50.mcMMO;
-import com.gmail.nossr50.util.Misc;
+import com.gmail.nossr50.runnables.party.PartySaveTask;
 import com.gmail.nossr50.util.Permissions;
 import com.gmail.nossr50.util.player.NotificationManager;
 import com.gmail.nossr50.util.player.UserManager;
 import com.gmail.nossr50.util.sounds.SoundManager;
 import com.gmail.nossr50.util.sounds.SoundType;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 
 import java.io.File;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
+import java.util.*;
 import java.util.Map.Entry;
-import java.util.UUID;
 
 public final class PartyManager {
     private static final String partiesFilePath = mcMMO.getFlatFileDirectory() + "parties.yml";
     private static final List<Party> parties = new ArrayList<>();
+    // Lookup indexes over the registered parties, kept in sync by the methods adding or removing parties and members
+    private static final Map<String, Party> partiesByName = new HashMap<>();
+    private static final Map<UUID, Party> partiesByMemberUniqueId = new HashMap<>();
+    private static final Map<String, Party> partiesByMemberName = new HashMap<>();
     private static final File partyFile = new File(partiesFilePath);
+    private static final PartyRecordStore recordStore = new PartyRecordStore(new File(mcMMO.getFlatFileDirectory() + "parties"));
 
     private PartyManager() {}
 
@@ -154,34 +157,30 @@ public final class PartyManager {
         Party party = mcMMOPlayer.getParty();
 
         if (party != null) {
-            Player player = mcMMOPlayer.getPlayer();
-            double range = Config.getInstance().getPartyShareRange();
-
-            for (Player member : party.getOnlineMembers()) {
-                if (!player.equals(member) && member.isValid() && Misc.isNear(player.getLocation(), member.getLocation(), range)) {
-                    nearMembers.add(member);
-                }
-            }
+            party.getMemberPositions().collectNearMembers(mcMMOPlayer.getPlayer(), Config.getInstance().getPartyShareRange(), false, nearMembers);
         }
 
         return nearMembers;
     }
 
+    /**
+     * Check if any party member is near, without building a list.
+     *
+     * @param mcMMOPlayer The player to check
+     * @return true if at least one other party member is in share range
+     */
+    public static boolean hasNearMembers(McMMOPlayer mcMMOPlayer) {
+        Party party = mcMMOPlayer.getParty();
+
+        return party != null && party.getMemberPositions().hasNearMembers(mcMMOPlayer.getPlayer(), Config.getInstance().getPartyShareRange());
+    }
+
     public static List<Player> getNearVisibleMembers(McMMOPlayer mcMMOPlayer) {
         List<Player> nearMembers = new ArrayList<>();
         Party party = mcMMOPlayer.getParty();
 
         if (party != null) {
-            Player player = mcMMOPlayer.getPlayer();
-            double range = Config.getInstance().getPartyShareRange();
-
-            for (Player member : party.getVisibleMembers(player)) {
-                if (!player.equals(member)
-                        && member.isValid()
-                        && Misc.isNear(player.getLocation(), member.getLocation(), range)) {
-                    nearMembers.add(member);
-                }
-            }
+            party.getMemberPositions().collectNearMembers(mcMMOPlayer.getPlayer(), Config.getInstance().getPartyShareRange(), true, nearMembers);
         }
 
         return nearMembers;
@@ -231,13 +230,11 @@ public final class PartyManager {
      * @return the existing party, null otherwise
      */
     public static Party getParty(String partyName) {
-        for (Party party : parties) {
-            if (party.getName().equalsIgnoreCase(partyName)) {
-                return party;
-            }
+        if (partyName == null) {
+            return null;
         }
 
-        return null;
+        return partiesByName.get(partyName.toLowerCase(Locale.ENGLISH));
     }
 
     /**
@@ -264,20 +261,32 @@ public final class PartyManager {
      * @return the existing party, null otherwise
      */
     public static Party getPlayerParty(String playerName, UUID uuid) {
-        for (Party party : parties) {
-            LinkedHashMap<UUID, String> members = party.getMembers();
-            if (members.containsKey(uuid) || members.containsValue(playerName)) {
+        Party party = partiesByMemberUniqueId.get(uuid);
 
-                // Name changes
-                if (members.get(uuid) == null || !members.get(uuid).equals(playerName)) {
-                    members.put(uuid, playerName);
-                }
+        if (party == null) {
+            party = partiesByMemberName.get(playerName);
+        }
 
-                return party;
+        if (party == null) {
+            return null;
+        }
+
+        LinkedHashMap<UUID, String> members = party.getMembers();
+        String storedName = members.get(uuid);
+
+        // Name changes
+        if (storedName == null || !storedName.equals(playerName)) {
+            members.put(uuid, playerName);
+            party.markPartyDirty();
+
+            if (storedName != null) {
+                partiesByMemberName.remove(storedName, party);
             }
+
+            indexMember(party, uuid, playerName);
         }
 
-        return null;
+        return party;
     }
 
     /**
@@ -317,14 +326,15 @@ public final class PartyManager {
         LinkedHashMap<UUID, String> members = party.getMembers();
         String playerName = player.getName();
 
-        members.remove(player.getUniqueId());
+        unindexMember(party, player.getUniqueId(), members.remove(player.getUniqueId()));
+        party.markPartyDirty();
 
         if (player.isOnline()) {
-            party.getOnlineMembers().remove(player.getPlayer());
+            party.removeOnlineMember(player.getPlayer());
         }
 
         if (members.isEmpty()) {
-            parties.remove(party);
+            unregisterParty(party);
         }
         else {
             // If the leaving player was the party leader, appoint a new leader from the party members
@@ -368,7 +378,7 @@ public final class PartyManager {
             party.getAlly().setAlly(null);
         }
 
-        parties.remove(party);
+        unregisterParty(party);
     }
 
     /**
@@ -387,7 +397,7 @@ public final class PartyManager {
             player.sendMessage(LocaleLoader.getString("Party.Password.Set", password));
         }
 
-        parties.add(party);
+        registerParty(party);
 
         player.sendMessage(LocaleLoader.getString("Commands.Party.Create", party.getName()));
         addToParty(mcMMOPlayer, party);
@@ -433,7 +443,7 @@ public final class PartyManager {
         Party invite = mcMMOPlayer.getPartyInvite();
 
         // Check if the party still exists, it might have been disbanded
-        if (!parties.contains(invite)) {
+        if (!isRegistered(invite)) {
             NotificationManager.sendPlayerInformation(mcMMOPlayer.getPlayer(), NotificationType.PARTY_MESSAGE, "Party.Disband");
             return;
         }
@@ -462,7 +472,7 @@ public final class PartyManager {
         Player player = mcMMOPlayer.getPlayer();
 
         // Check if the party still exists, it might have been disbanded
-        if (!parties.contains(invite)) {
+        if (!isRegistered(invite)) {
             player.sendMessage(LocaleLoader.getString("Party.Disband"));
             return;
         }
@@ -525,7 +535,38 @@ public final class PartyManager {
         informPartyMembersJoin(party, playerName);
         mcMMOPlayer.setParty(party);
         party.getMembers().put(player.getUniqueId(), player.getName());
-        party.getOnlineMembers().add(player);
+        party.addOnlineMember(player);
+        party.markPartyDirty();
+
+        if (isRegistered(party)) {
+            indexMember(party, player.getUniqueId(), player.getName());
+        }
+    }
+
+    /**
+     * Rename a party
+     *
+     * @param party The party to rename
+     * @param newPartyName The new name of the party
+     */
+    public static void renameParty(Party party, String newPartyName) {
+        boolean registered = isRegistered(party);
+
+        if (registered) {
+            partiesByName.remove(party.getName().toLowerCase(Locale.ENGLISH));
+            recordStore.stageRemoval(party.getName());
+        }
+
+        party.setName(newPartyName);
+
+        // The ally stores this party by name
+        if (party.getAlly() != null) {
+            party.getAlly().markPartyDirty();
+        }
+
+        if (registered) {
+            partiesByName.put(newPartyName.toLowerCase(Locale.ENGLISH), party);
+        }
     }
 
     /**
@@ -579,13 +620,17 @@ public final class PartyManager {
     }
 
     /**
-     * Load party file.
+     * Load parties, either from their party records or from a legacy parties.yml which is then migrated to records.
      */
     public static void loadParties() {
         if (!partyFile.exists()) {
+            loadPartyRecords();
             return;
         }
 
+        // Records left by an unfinished migration are stale, the legacy file is still authoritative
+        recordStore.clear();
+
         if (mcMMO.getUpgradeManager().shouldUpgrade(UpgradeType.ADD_UUIDS_PARTY)) {
             loadAndUpgradeParties();
             return;
@@ -595,45 +640,20 @@ public final class PartyManager {
             YamlConfiguration partiesFile;
             partiesFile = YamlConfiguration.loadConfiguration(partyFile);
 
-            ArrayList<Party> hasAlly = new ArrayList<>();
+            Map<Party, String> allies = new HashMap<>();
 
             for (String partyName : partiesFile.getConfigurationSection("").getKeys(false)) {
-                Party party = new Party(partyName);
-
-                String[] leaderSplit = partiesFile.getString(partyName + ".Leader").split("[|]");
-                party.setLeader(new PartyLeader(UUID.fromString(leaderSplit[0]), leaderSplit[1]));
-                party.setPassword(partiesFile.getString(partyName + ".Password"));
-                party.setLocked(partiesFile.getBoolean(partyName + ".Locked"));
-                party.setLevel(partiesFile.getInt(partyName + ".Level"));
-                party.setXp(partiesFile.getInt(partyName + ".Xp"));
-
-                if (partiesFile.getString(partyName + ".Ally") != null) {
-                    hasAlly.add(party);
-                }
-
-                party.setXpShareMode(ShareMode.getShareMode(partiesFile.getString(partyName + ".ExpShareMode", "NONE")));
-                party.setItemShareMode(ShareMode.getShareMode(partiesFile.getString(partyName + ".ItemShareMode", "NONE")));
-
-                for (ItemShareType itemShareType : ItemShareType.values()) {
-                    party.setSharingDrops(itemShareType, partiesFile.getBoolean(partyName + ".ItemShareType." + itemShareType.toString(), true));
-                }
-
-                LinkedHashMap<UUID, String> members = party.getMembers();
-
-                for (String memberEntry : partiesFile.getStringList(partyName + ".Members")) {
-                    String[] memberSplit = memberEntry.split("[|]");
-                    members.put(UUID.fromString(memberSplit[0]), memberSplit[1]);
-                }
-
-                parties.add(party);
+                registerParty(loadParty(partyName, partiesFile.getConfigurationSection(partyName), allies));
             }
 
             mcMMO.p.debug("Loaded (" + parties.size() + ") Parties...");
 
-            for (Party party : hasAlly) {
-                party.setAlly(PartyManager.getParty(partiesFile.getString(party.getName() + ".Ally")));
+            for (Entry<Party, String> ally : allies.entrySet()) {
+                ally.getKey().setAlly(PartyManager.getParty(ally.getValue()));
             }
 
+            // Parties loaded from the legacy file are all marked as changed, the next save writes them as records
+            recordStore.retireLegacyFile(partyFile);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -641,56 +661,97 @@ public final class PartyManager {
     }
 
     /**
-     * Save party file.
+     * Save parties which changed since the last save.
+     * Only a snapshot of the changed parties is taken here, the files are written off the main thread unless useSync is set.
+     *
+     * @param useSync true to write the files before returning, used on shutdown
      */
-    public static void saveParties() {
-        if (partyFile.exists()) {
-            if (!partyFile.delete()) {
-                mcMMO.p.getLogger().warning("Could not delete party file. Party saving failed!");
-                return;
+    public static void saveParties(boolean useSync) {
+        for (Party party : parties) {
+            if (party.isChanged()) {
+                recordStore.stage(party);
+                party.markPartySaved();
             }
         }
 
-        YamlConfiguration partiesFile = new YamlConfiguration();
+        if (!recordStore.hasPendingWork()) {
+            return;
+        }
 
-        mcMMO.p.debug("Saving Parties... (" + parties.size() + ")");
-        for (Party party : parties) {
-            String partyName = party.getName();
-            PartyLeader leader = party.getLeader();
-
-            partiesFile.set(partyName + ".Leader", leader.getUniqueId().toString() + "|" + leader.getPlayerName());
-            partiesFile.set(partyName + ".Password", party.getPassword());
-            partiesFile.set(partyName + ".Locked", party.isLocked());
-            partiesFile.set(partyName + ".Level", party.getLevel());
-            partiesFile.set(partyName + ".Xp", (int) party.getXp());
-            partiesFile.set(partyName + ".Ally", (party.getAlly() != null) ? party.getAlly().getName() : "");
-            partiesFile.set(partyName + ".ExpShareMode", party.getXpShareMode().toString());
-            partiesFile.set(partyName + ".ItemShareMode", party.getItemShareMode().toString());
+        if (useSync || mcMMO.isServerShutdownExecuted()) {
+            recordStore.flush();
+        }
+        else {
+            new PartySaveTask().runTaskAsynchronously(mcMMO.p);
+        }
+    }
 
-            for (ItemShareType itemShareType : ItemShareType.values()) {
-                partiesFile.set(partyName + ".ItemShareType." + itemShareType.toString(), party.sharingDrops(itemShareType));
-            }
+    /**
+     * Write staged party records, called off the main thread by {@link PartySaveTask}.
+     */
+    public static void flushPartyRecords() {
+        recordStore.flush();
+    }
 
-            List<String> members = new ArrayList<>();
+    private static void loadPartyRecords() {
+        Map<Party, String> allies = new HashMap<>();
 
-            for (Entry<UUID, String> memberEntry : party.getMembers().entrySet()) {
-                String memberUniqueId = memberEntry.getKey() == null ? "" : memberEntry.getKey().toString();
-                String memberName = memberEntry.getValue();
+        for (YamlConfiguration record : recordStore.loadRecords()) {
+            String partyName = record.getString("Name");
 
-                if (!members.contains(memberName)) {
-                    members.add(memberUniqueId + "|" + memberName);
-                }
+            if (partyName == null) {
+                continue;
             }
 
-            partiesFile.set(partyName + ".Members", members);
+            try {
+                registerParty(loadParty(partyName, record, allies));
+            }
+            catch (Exception e) {
+                mcMMO.p.getLogger().warning("Could not load party " + partyName + ": " + e.getMessage());
+            }
         }
 
-        try {
-            partiesFile.save(partyFile);
+        for (Entry<Party, String> ally : allies.entrySet()) {
+            ally.getKey().setAlly(PartyManager.getParty(ally.getValue()));
         }
-        catch (Exception e) {
-            e.printStackTrace();
+
+        // Everything loaded matches what is on disk
+        for (Party party : parties) {
+            party.markPartySaved();
         }
+
+        mcMMO.p.debug("Loaded (" + parties.size() + ") Parties...");
+    }
+
+    private static Party loadParty(String partyName, ConfigurationSection section, Map<Party, String> allies) {
+        Party party = new Party(partyName);
+
+        String[] leaderSplit = section.getString("Leader").split("[|]");
+        party.setLeader(new PartyLeader(UUID.fromString(leaderSplit[0]), leaderSplit[1]));
+        party.setPassword(section.getString("Password"));
+        party.setLocked(section.getBoolean("Locked"));
+        party.setLevel(section.getInt("Level"));
+        party.setXp(section.getInt("Xp"));
+
+        if (section.getString("Ally") != null) {
+            allies.put(party, section.getString("Ally"));
+        }
+
+        party.setXpShareMode(ShareMode.getShareMode(section.getString("ExpShareMode", "NONE")));
+        party.setItemShareMode(ShareMode.getShareMode(section.getString("ItemShareMode", "NONE")));
+
+        for (ItemShareType itemShareType : ItemShareType.values()) {
+            party.setSharingDrops(itemShareType, section.getBoolean("ItemShareType." + itemShareType.toString(), true));
+        }
+
+        LinkedHashMap<UUID, String> members = party.getMembers();
+
+        for (String memberEntry : section.getStringList("Members")) {
+            String[] memberSplit = memberEntry.split("[|]");
+            members.put(UUID.fromString(memberSplit[0]), memberSplit[1]);
+        }
+
+        return party;
     }
 
     private static void loadAndUpgradeParties() {
@@ -748,7 +809,7 @@ public final class PartyManager {
                 members.put(memberUniqueId, memberName);
             }
 
-            parties.add(party);
+            registerParty(party);
         }
 
         mcMMO.p.debug("Loaded (" + parties.size() + ") Parties...");
@@ -803,6 +864,49 @@ public final class PartyManager {
         mcMMOPlayer.setItemShareModifier(10);
     }
 
+    private static boolean isRegistered(Party party) {
+        return party != null && partiesByName.get(party.getName().toLowerCase(Locale.ENGLISH)) == party;
+    }
+
+    private static void registerParty(Party party) {
+        parties.add(party);
+        partiesByName.put(party.getName().toLowerCase(Locale.ENGLISH), party);
+
+        for (Entry<UUID, String> memberEntry : party.getMembers().entrySet()) {
+            indexMember(party, memberEntry.getKey(), memberEntry.getValue());
+        }
+    }
+
+    private static void unregisterParty(Party party) {
+        parties.remove(party);
+        recordStore.stageRemoval(party.getName());
+        partiesByName.remove(party.getName().toLowerCase(Locale.ENGLISH), party);
+
+        for (Entry<UUID, String> memberEntry : party.getMembers().entrySet()) {
+            unindexMember(party, memberEntry.getKey(), memberEntry.getValue());
+        }
+    }
+
+    private static void indexMember(Party party, UUID uuid, String playerName) {
+        if (uuid != null) {
+            partiesByMemberUniqueId.put(uuid, party);
+        }
+
+        if (playerName != null) {
+            partiesByMemberName.put(playerName, party);
+        }
+    }
+
+    private static void unindexMember(Party party, UUID uuid, String playerName) {
+        if (uuid != null) {
+            partiesByMemberUniqueId.remove(uuid, party);
+        }
+
+        if (playerName != null) {
+            partiesByMemberName.remove(playerName, party);
+        }
+    }
+
     /**
      * Notify party members when the party levels up.
      *
@@ -0,0 +1,267 @@
+package com.gmail.nossr50.party;
+
+import com.gmail.nossr50.datatypes.party.ItemShareType;
+import com.gmail.nossr50.datatypes.party.Party;
+import com.gmail.nossr50.datatypes.party.PartyLeader;
+import com.gmail.nossr50.mcMMO;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.Map.Entry;
+
+/**
+ * Stores every party in its own record file, so a save only touches the parties which changed.
+ * <p>
+ * Snapshots are staged on the main thread and written by {@link #flush()} from any thread.
+ * Only the latest staged state of a party is kept, so a flush running late never writes stale data.
+ */
+final class PartyRecordStore {
+    private static final String RECORD_EXTENSION = ".yml";
+
+    private final File directory;
+    // Record key -> latest snapshot, a null value means the record should be deleted
+    private final Map<String, PartyRecord> pendingRecords = new HashMap<>();
+    private final Object flushLock = new Object();
+    private File legacyFile;
+
+    PartyRecordStore(@NotNull File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Read every stored party record.
+     *
+     * @return the records, each with the party name under "Name"
+     */
+    @NotNull List<YamlConfiguration> loadRecords() {
+        List<YamlConfiguration> records = new ArrayList<>();
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(RECORD_EXTENSION));
+
+        if (files == null) {
+            return records;
+        }
+
+        for (File file : files) {
+            records.add(YamlConfiguration.loadConfiguration(file));
+        }
+
+        return records;
+    }
+
+    /**
+     * Delete every stored record, used when the legacy parties file takes precedence over leftovers of an unfinished migration.
+     */
+    void clear() {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(RECORD_EXTENSION));
+
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            if (!file.delete()) {
+                mcMMO.p.getLogger().warning("Could not delete stale party record " + file.getName());
+            }
+        }
+    }
+
+    /**
+     * Rename the legacy parties file once every party has been written as a record.
+     *
+     * @param legacyFile the parties.yml the parties were loaded from
+     */
+    void retireLegacyFile(@NotNull File legacyFile) {
+        synchronized (pendingRecords) {
+            this.legacyFile = legacyFile;
+        }
+    }
+
+    void stage(@NotNull Party party) {
+        PartyRecord record = new PartyRecord(party);
+
+        synchronized (pendingRecords) {
+            pendingRecords.put(getRecordKey(record.name), record);
+        }
+    }
+
+    void stageRemoval(@NotNull String partyName) {
+        synchronized (pendingRecords) {
+            pendingRecords.put(getRecordKey(partyName), null);
+        }
+    }
+
+    boolean hasPendingWork() {
+        synchronized (pendingRecords) {
+            return !pendingRecords.isEmpty() || legacyFile != null;
+        }
+    }
+
+    /**
+     * Write and delete the staged records.
+     */
+    void flush() {
+        synchronized (flushLock) {
+            Map<String, PartyRecord> records;
+            File retiringFile;
+
+            synchronized (pendingRecords) {
+                records = new HashMap<>(pendingRecords);
+                retiringFile = legacyFile;
+                pendingRecords.clear();
+                legacyFile = null;
+            }
+
+            if (!directory.exists() && !directory.mkdirs()) {
+                mcMMO.p.getLogger().severe("Could not create " + directory.getPath() + ", party saving failed!");
+                restage(records, retiringFile);
+                return;
+            }
+
+            Map<String, PartyRecord> failedRecords = new HashMap<>();
+
+            for (Entry<String, PartyRecord> entry : records.entrySet()) {
+                if (!writeRecord(entry.getKey(), entry.getValue())) {
+                    failedRecords.put(entry.getKey(), entry.getValue());
+                }
+            }
+
+            if (!failedRecords.isEmpty()) {
+                restage(failedRecords, retiringFile);
+                return;
+            }
+
+            if (retiringFile != null && !retiringFile.renameTo(new File(retiringFile.getPath() + ".migrated"))) {
+                mcMMO.p.getLogger().warning("Could not rename " + retiringFile.getName() + " after migrating parties, it will be migrated again on the next start.");
+            }
+        }
+    }
+
+    private boolean writeRecord(String key, PartyRecord record) {
+        File file = new File(directory, getFileName(key));
+
+        if (record == null) {
+            if (file.exists() && !file.delete()) {
+                mcMMO.p.getLogger().warning("Could not delete party record " + file.getName());
+                return false;
+            }
+
+            return true;
+        }
+
+        File tempFile = new File(directory, file.getName() + ".tmp");
+
+        try {
+            record.toYaml().save(tempFile);
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        }
+        catch (IOException e) {
+            mcMMO.p.getLogger().warning("Could not save party " + record.name + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void restage(Map<String, PartyRecord> records, File retiringFile) {
+        synchronized (pendingRecords) {
+            // Anything staged in the meantime is newer than what failed
+            for (Entry<String, PartyRecord> entry : records.entrySet()) {
+                if (!pendingRecords.containsKey(entry.getKey())) {
+                    pendingRecords.put(entry.getKey(), entry.getValue());
+                }
+            }
+
+            if (legacyFile == null) {
+                legacyFile = retiringFile;
+            }
+        }
+    }
+
+    private static String getRecordKey(String partyName) {
+        return partyName.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Party names come from players, anything outside a safe set of characters is hex escaped
+     */
+    private static String getFileName(String key) {
+        StringBuilder fileName = new StringBuilder();
+
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            if ((b >= 'a' && b <= 'z') || (b >= '0' && b <= '9') || b == '_' || b == '-') {
+                fileName.append((char) b);
+            }
+            else {
+                fileName.append('%').append(String.format("%02x", b & 0xFF));
+            }
+        }
+
+        return fileName.append(RECORD_EXTENSION).toString();
+    }
+
+    /**
+     * Immutable copy of a party taken on the main thread
+     */
+    private static final class PartyRecord {
+        private final String name;
+        private final String leader;
+        private final String password;
+        private final boolean locked;
+        private final int level;
+        private final int xp;
+        private final String ally;
+        private final String xpShareMode;
+        private final String itemShareMode;
+        private final Map<ItemShareType, Boolean> sharingDrops = new EnumMap<>(ItemShareType.class);
+        private final List<String> members = new ArrayList<>();
+
+        private PartyRecord(Party party) {
+            PartyLeader partyLeader = party.getLeader();
+
+            name = party.getName();
+            leader = partyLeader.getUniqueId().toString() + "|" + partyLeader.getPlayerName();
+            password = party.getPassword();
+            locked = party.isLocked();
+            level = party.getLevel();
+            xp = (int) party.getXp();
+            ally = party.getAlly() != null ? party.getAlly().getName() : "";
+            xpShareMode = party.getXpShareMode().toString();
+            itemShareMode = party.getItemShareMode().toString();
+
+            for (ItemShareType itemShareType : ItemShareType.values()) {
+                sharingDrops.put(itemShareType, party.sharingDrops(itemShareType));
+            }
+
+            for (Entry<UUID, String> memberEntry : party.getMembers().entrySet()) {
+                String memberUniqueId = memberEntry.getKey() == null ? "" : memberEntry.getKey().toString();
+                members.add(memberUniqueId + "|" + memberEntry.getValue());
+            }
+        }
+
+        private YamlConfiguration toYaml() {
+            YamlConfiguration yaml = new YamlConfiguration();
+
+            yaml.set("Name", name);
+            yaml.set("Leader", leader);
+            yaml.set("Password", password);
+            yaml.set("Locked", locked);
+            yaml.set("Level", level);
+            yaml.set("Xp", xp);
+            yaml.set("Ally", ally);
+            yaml.set("ExpShareMode", xpShareMode);
+            yaml.set("ItemShareMode", itemShareMode);
+
+            for (Entry<ItemShareType, Boolean> entry : sharingDrops.entrySet()) {
+                yaml.set("ItemShareType." + entry.getKey().toString(), entry.getValue());
+            }
+
+            yaml.set("Members", members);
+            return yaml;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.gmail.nossr50.datatypes.experience.XPGainReason;
 import com.gmail.nossr50.datatypes.experience.XPGainSource;
 import com.gmail.nossr50.datatypes.party.ItemShareType;
 import com.gmail.nossr50.datatypes.party.Party;
+import com.gmail.nossr50.datatypes.party.PartyMemberPositions;
 import com.gmail.nossr50.datatypes.party.ShareMode;
 import com.gmail.nossr50.datatypes.player.McMMOPlayer;
 import com.gmail.nossr50.datatypes.skills.PrimarySkillType;
@@ -35,28 +36,34 @@ public final class ShareHandler {
             return false;
         }
 
-        List<Player> nearMembers = PartyManager.getNearVisibleMembers(mcMMOPlayer);
+        Player player = mcMMOPlayer.getPlayer();
+        PartyMemberPositions memberPositions = party.getMemberPositions();
+        double range = Config.getInstance().getPartyShareRange();
+        int nearMemberCount = memberPositions.countNearMembers(player, range, true);
 
-        if (nearMembers.isEmpty()) {
+        if (nearMemberCount == 0) {
             return false;
         }
 
-        nearMembers.add(mcMMOPlayer.getPlayer());
-
-        int partySize = nearMembers.size();
+        int partySize = nearMemberCount + 1;
         double shareBonus = Math.min(Config.getInstance().getPartyShareBonusBase() + (partySize * Config.getInstance().getPartyShareBonusIncrease()), Config.getInstance().getPartyShareBonusCap());
         float splitXp = (float) (xp / partySize * shareBonus);
 
-        for (Player member : nearMembers) {
-            //Profile not loaded
-            if(UserManager.getPlayer(member) == null)
-            {
-                continue;
-            }
+        // The snapshot is stable for the rest of the tick, so indexing it while members gain xp is safe
+        for (int i = 0; i < memberPositions.size(); i++) {
+            if (memberPositions.isNearMember(i, player, range, true)) {
+                McMMOPlayer mcMMOMember = UserManager.getPlayer(memberPositions.getMember(i));
+
+                //Profile not loaded
+                if (mcMMOMember == null) {
+                    continue;
+                }
 
-            UserManager.getPlayer(member).beginUnsharedXpGain(primarySkillType, splitXp, xpGainReason, XPGainSource.PARTY_MEMBERS);
+                mcMMOMember.beginUnsharedXpGain(primarySkillType, splitXp, xpGainReason, XPGainSource.PARTY_MEMBERS);
+            }
         }
 
+        mcMMOPlayer.beginUnsharedXpGain(primarySkillType, splitXp, xpGainReason, XPGainSource.PARTY_MEMBERS);
         return true;
     }
 
@@ -1,10 +1,11 @@
 package com.gmail.nossr50.runnables;
 
 import com.gmail.nossr50.mcMMO;
+import com.gmail.nossr50.util.MobHealthbarUtils;
+import com.gmail.nossr50.util.scheduler.TickTimer;
 import org.bukkit.entity.LivingEntity;
-import org.bukkit.scheduler.BukkitRunnable;
 
-public class MobHealthDisplayUpdaterTask extends BukkitRunnable {
+public class MobHealthDisplayUpdaterTask extends TickTimer {
     private final LivingEntity target;
 
     public MobHealthDisplayUpdaterTask(LivingEntity target) {
@@ -22,5 +23,7 @@ public class MobHealthDisplayUpdaterTask extends BukkitRunnable {
             target.setCustomNameVisible(target.getMetadata(mcMMO.customVisibleKey).get(0).asBoolean());
             target.removeMetadata(mcMMO.customVisibleKey, mcMMO.p);
         }
+
+        MobHealthbarUtils.removeHealthDisplayTimer(target);
     }
 }
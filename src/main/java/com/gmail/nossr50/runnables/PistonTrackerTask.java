@@ -6,6 +6,7 @@ import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.scheduler.BukkitRunnable;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class PistonTrackerTask extends BukkitRunnable {
@@ -30,17 +31,28 @@ public class PistonTrackerTask extends BukkitRunnable {
             mcMMO.getPlaceStore().setFalse(futureEmptyBlock);
         }
 
+        List<Block> nextBlocks = new ArrayList<>(blocks.size());
+
         for (Block b : blocks) {
-            Block nextBlock = b.getRelative(direction);
+            nextBlocks.add(b.getRelative(direction));
+        }
+
+        boolean[] tracked = mcMMO.getPlaceStore().isTrueBatch(nextBlocks);
+        List<Block> placedBlocks = new ArrayList<>(nextBlocks.size());
+
+        for (int i = 0; i < nextBlocks.size(); i++) {
+            Block nextBlock = nextBlocks.get(i);
 
             if (nextBlock.hasMetadata(mcMMO.blockMetadataKey)) {
-                mcMMO.getPlaceStore().setTrue(nextBlock);
+                placedBlocks.add(nextBlock);
                 nextBlock.removeMetadata(mcMMO.blockMetadataKey, mcMMO.p);
             }
-            else if (mcMMO.getPlaceStore().isTrue(nextBlock)) {
+            else if (tracked[i]) {
                 // Block doesn't have metadatakey but isTrue - set it to false
                 mcMMO.getPlaceStore().setFalse(nextBlock);
             }
         }
+
+        mcMMO.getPlaceStore().setTrue(placedBlocks);
     }
 }
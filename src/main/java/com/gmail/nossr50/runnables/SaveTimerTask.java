@@ -18,6 +18,6 @@ public class SaveTimerTask extends BukkitRunnable {
             count++;
         }
 
-        PartyManager.saveParties();
+        PartyManager.saveParties(false);
     }
 }
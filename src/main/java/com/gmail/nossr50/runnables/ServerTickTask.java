@@ -0,0 +1,15 @@
+package com.gmail.nossr50.runnables;
+
+import com.gmail.nossr50.mcMMO;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Advances the {@link com.gmail.nossr50.util.scheduler.TickTimerWheel} which runs mcMMO's short lived timers.
+ * The wheel's tick is the server tick count used by per-tick caches, see {@link com.gmail.nossr50.util.scheduler.TickTimerWheel#getCurrentTick()}.
+ */
+public class ServerTickTask extends BukkitRunnable {
+    @Override
+    public void run() {
+        mcMMO.getTickTimerWheel().advance();
+    }
+}
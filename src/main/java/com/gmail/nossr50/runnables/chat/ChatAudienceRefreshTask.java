@@ -0,0 +1,14 @@
+package com.gmail.nossr50.runnables.chat;
+
+import com.gmail.nossr50.mcMMO;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Picks up players newly granted admin chat for the cached admin candidates
+ */
+public class ChatAudienceRefreshTask extends BukkitRunnable {
+    @Override
+    public void run() {
+        mcMMO.p.getChatManager().refreshAudiences();
+    }
+}
@@ -0,0 +1,11 @@
+package com.gmail.nossr50.runnables.party;
+
+import com.gmail.nossr50.party.PartyManager;
+import org.bukkit.scheduler.BukkitRunnable;
+
+public class PartySaveTask extends BukkitRunnable {
+    @Override
+    public void run() {
+        PartyManager.flushPartyRecords();
+    }
+}
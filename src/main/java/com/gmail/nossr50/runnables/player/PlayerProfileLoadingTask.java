@@ -87,8 +87,9 @@ public class PlayerProfileLoadingTask extends BukkitRunnable {
                 return;
             }
 
-            mcMMOPlayer.setupPartyData();
+            //Tracked first, party chat only includes members with a loaded profile
             UserManager.track(mcMMOPlayer);
+            mcMMOPlayer.setupPartyData();
             mcMMOPlayer.actualizeRespawnATS();
 
             if (Config.getInstance().getScoreboardsEnabled()) {
@@ -15,9 +15,14 @@ import org.bukkit.Material;
 import org.bukkit.block.BlockState;
 import org.bukkit.block.BrewingStand;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
-public class AlchemyBrewTask extends BukkitRunnable {
+/**
+ * An active brew, advanced every tick by the shared brewing driver in {@link Alchemy}.
+ * <p>
+ * The ingredient is not checked every tick, {@link AlchemyBrewCheckTask} cancels the brew whenever the inventory
+ * of the stand changes to something which can't be brewed and the brew checks it once more when it finishes.
+ */
+public class AlchemyBrewTask {
     private static final double DEFAULT_BREW_SPEED = 1.0;
     private static final int    DEFAULT_BREW_TICKS = 400;
 
@@ -28,6 +33,7 @@ public class AlchemyBrewTask extends BukkitRunnable {
     private final Player player;
     private int fuel;
     private boolean firstRun = true;
+    private boolean active = true;
 
     public AlchemyBrewTask(BlockState brewingStand, Player player) {
         this.brewingStand = brewingStand;
@@ -62,13 +68,19 @@ public class AlchemyBrewTask extends BukkitRunnable {
             fuel--;
 
         Alchemy.brewingStandMap.put(location, this);
-        this.runTaskTimer(mcMMO.p, 1, 1);
+        Alchemy.scheduleBrews();
     }
 
-    @Override
-    public void run() {
-        if (player == null || !player.isValid() || brewingStand == null || brewingStand.getType() != Material.BREWING_STAND || !AlchemyPotionBrewer.isValidIngredient(player, ((BrewingStand) brewingStand).getInventory().getContents()[Alchemy.INGREDIENT_SLOT])) {
-            if (Alchemy.brewingStandMap.containsKey(location)) {
+    /**
+     * Advance the brew by one tick.
+     */
+    public void tick() {
+        if (!active) {
+            return;
+        }
+
+        if (player == null || !player.isValid() || brewingStand == null || brewingStand.getType() != Material.BREWING_STAND) {
+            if (Alchemy.brewingStandMap.get(location) == this) {
                 Alchemy.brewingStandMap.remove(location);
             }
 
@@ -112,6 +124,17 @@ public class AlchemyBrewTask extends BukkitRunnable {
         Alchemy.brewingStandMap.remove(location);
     }
 
+    /**
+     * Stop advancing this brew, the stand is left as it is.
+     */
+    public void cancel() {
+        active = false;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
     public void cancelBrew() {
         this.cancel();
 
@@ -4,34 +4,117 @@ import com.gmail.nossr50.datatypes.experience.XPGainReason;
 import com.gmail.nossr50.datatypes.experience.XPGainSource;
 import com.gmail.nossr50.datatypes.player.McMMOPlayer;
 import com.gmail.nossr50.datatypes.skills.PrimarySkillType;
+import com.gmail.nossr50.util.scheduler.TickTimer;
 import org.bukkit.entity.LivingEntity;
-import org.bukkit.scheduler.BukkitRunnable;
-
-public class AwardCombatXpTask extends BukkitRunnable {
-    private final McMMOPlayer mcMMOPlayer;
-    private final double baseXp;
-    private final PrimarySkillType primarySkillType;
-    private final LivingEntity target;
-    private final XPGainReason xpGainReason;
-    private final double baseHealth;
-
-    public AwardCombatXpTask(McMMOPlayer mcMMOPlayer, PrimarySkillType primarySkillType, double baseXp, LivingEntity target, XPGainReason xpGainReason) {
-        this.mcMMOPlayer = mcMMOPlayer;
-        this.primarySkillType = primarySkillType;
-        this.baseXp = baseXp;
-        this.target = target;
-        this.xpGainReason = xpGainReason;
-        baseHealth = target.getHealth();
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Collects every combat hit of a tick and awards the XP for them on the next tick, once the damage has been applied.
+ * <p>
+ * Hits are recorded in flat arrays, resolved in one pass, and every player gets a single XP gain per skill
+ * and reason with the summed XP instead of one task and one XP gain per hit.
+ */
+public class AwardCombatXpTask extends TickTimer {
+    private static final PrimarySkillType[] SKILLS = PrimarySkillType.values();
+    private static final XPGainReason[] REASONS = XPGainReason.values();
+    private static final int SKILL_COUNT = SKILLS.length;
+
+    private McMMOPlayer[] players = new McMMOPlayer[16];
+    private LivingEntity[] targets = new LivingEntity[16];
+    // Skill ordinal and reason ordinal of each hit, packed as reason * SKILL_COUNT + skill
+    private int[] xpKeys = new int[16];
+    private double[] baseXps = new double[16];
+    private double[] baseHealths = new double[16];
+    private int size = 0;
+
+    // Summed XP per player, indexed by xp key, arrays are recycled between ticks
+    private final Map<McMMOPlayer, float[]> totalsByPlayer = new IdentityHashMap<>();
+    private final ArrayDeque<float[]> spareTotals = new ArrayDeque<>();
+
+    /**
+     * Record a hit, its XP is awarded on the next tick based on how much health the target lost.
+     *
+     * @param mcMMOPlayer the attacking player
+     * @param primarySkillType the skill being used
+     * @param baseXp XP per point of damage, multipliers included
+     * @param target the defending entity
+     * @param xpGainReason the reason for the XP gain
+     */
+    public void queueXp(@NotNull McMMOPlayer mcMMOPlayer, @NotNull PrimarySkillType primarySkillType, double baseXp, @NotNull LivingEntity target, @NotNull XPGainReason xpGainReason) {
+        if (size == players.length) {
+            int capacity = size * 2;
+
+            players = Arrays.copyOf(players, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            xpKeys = Arrays.copyOf(xpKeys, capacity);
+            baseXps = Arrays.copyOf(baseXps, capacity);
+            baseHealths = Arrays.copyOf(baseHealths, capacity);
+        }
+
+        players[size] = mcMMOPlayer;
+        targets[size] = target;
+        xpKeys[size] = xpGainReason.ordinal() * SKILL_COUNT + primarySkillType.ordinal();
+        baseXps[size] = baseXp;
+        baseHealths[size] = target.getHealth();
+        size++;
+
+        if (!isScheduled()) {
+            schedule(0);
+        }
     }
 
     @Override
     public void run() {
-        double health = target.getHealth();
-        double damage = baseHealth - health;
+        for (int i = 0; i < size; i++) {
+            int xp = getHitXp(i);
+
+            if (xp > 0) {
+                float[] totals = totalsByPlayer.get(players[i]);
+
+                if (totals == null) {
+                    totals = spareTotals.isEmpty() ? new float[SKILL_COUNT * REASONS.length] : spareTotals.poll();
+                    totalsByPlayer.put(players[i], totals);
+                }
+
+                totals[xpKeys[i]] += xp;
+            }
+
+            // Don't hold on to players and entities until the next busy tick
+            players[i] = null;
+            targets[i] = null;
+        }
+
+        size = 0;
+
+        for (Map.Entry<McMMOPlayer, float[]> entry : totalsByPlayer.entrySet()) {
+            McMMOPlayer mcMMOPlayer = entry.getKey();
+            float[] totals = entry.getValue();
+
+            for (int xpKey = 0; xpKey < totals.length; xpKey++) {
+                if (totals[xpKey] > 0) {
+                    mcMMOPlayer.beginXpGain(SKILLS[xpKey % SKILL_COUNT], totals[xpKey], REASONS[xpKey / SKILL_COUNT], XPGainSource.SELF);
+                    totals[xpKey] = 0;
+                }
+            }
+
+            spareTotals.add(totals);
+        }
+
+        totalsByPlayer.clear();
+    }
+
+    private int getHitXp(int index) {
+        double health = targets[index].getHealth();
+        double damage = baseHealths[index] - health;
 
         // May avoid negative xp, we don't know what other plugins do with the entity health
         if (damage <= 0) {
-            return;
+            return 0;
         }
 
         // Don't reward the player for overkills
@@ -39,6 +122,6 @@ public class AwardCombatXpTask extends BukkitRunnable {
             damage += health;
         }
 
-        mcMMOPlayer.beginXpGain(primarySkillType, (int) (damage * baseXp), xpGainReason, XPGainSource.SELF);
+        return (int) (damage * baseXps[index]);
     }
 }
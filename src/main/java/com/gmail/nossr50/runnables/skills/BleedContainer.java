@@ -1,14 +1,21 @@
 package com.gmail.nossr50.runnables.skills;
 
+import com.gmail.nossr50.util.scheduler.TickTimer;
 import org.bukkit.entity.LivingEntity;
 
-public class BleedContainer {
+/**
+ * State of a single bleed, doubles as the timer of its next bleed tick
+ */
+public class BleedContainer extends TickTimer {
     public int bleedTicks;
     public int bleedRank;
     public int toolTier;
     public LivingEntity target;
     public LivingEntity damageSource;
 
+    // Pieces of armor the target wears, -1 when it needs to be counted again
+    int armorCount = -1;
+
     public BleedContainer(LivingEntity target, int bleedTicks, int bleedRank, int toolTier, LivingEntity damageSource)
     {
         this.target         = target;
@@ -17,4 +24,9 @@ public class BleedContainer {
         this.toolTier       = toolTier;
         this.damageSource   = damageSource;
     }
+
+    @Override
+    public void run() {
+        BleedTimerTask.bleed(this);
+    }
 }
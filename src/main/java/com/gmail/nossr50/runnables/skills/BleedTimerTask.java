@@ -4,6 +4,7 @@ import com.gmail.nossr50.config.AdvancedConfig;
 import com.gmail.nossr50.datatypes.interactions.NotificationType;
 import com.gmail.nossr50.events.fake.FakeEntityDamageByEntityEvent;
 import com.gmail.nossr50.mcMMO;
+import com.gmail.nossr50.util.Misc;
 import com.gmail.nossr50.util.MobHealthbarUtils;
 import com.gmail.nossr50.util.player.NotificationManager;
 import com.gmail.nossr50.util.skills.CombatUtils;
@@ -11,142 +12,162 @@ import com.gmail.nossr50.util.skills.ParticleEffectUtils;
 import com.gmail.nossr50.util.sounds.SoundManager;
 import com.gmail.nossr50.util.sounds.SoundType;
 import org.bukkit.Bukkit;
+import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
-import java.util.Map.Entry;
 
-public class BleedTimerTask extends BukkitRunnable {
-    private static final @NotNull Map<LivingEntity, BleedContainer> bleedList = new HashMap<>();
+/**
+ * Rupture engine, every bleeding entity has its own {@link BleedContainer} timer which runs exactly on its next bleed tick.
+ * <p>
+ * Bleeds are looked up by entity id, the rupture config is read once, and the armor count of a bleeding player
+ * is only counted again after they may have changed their equipment. At most a configured number of bleeds deal
+ * damage per server tick, the rest are pushed back by a tick.
+ */
+public final class BleedTimerTask {
+    // Ticks between two bleed ticks of an entity
+    public static final int BLEED_INTERVAL = Misc.TICK_CONVERSION_FACTOR / 2;
+
+    // Rupture config, read once by loadSettings() when the plugin enables
+    private static double playerDamage;
+    private static double mobDamage;
+    private static int maxBleedsPerTick;
+
+    // Entity id -> bleed, entity ids get reused so the target is checked as well
+    private static final @NotNull Map<Integer, BleedContainer> bleedList = new HashMap<>();
+    // Set while a bleed deals damage, so bleeds started by that damage are ignored like they used to be
     private static boolean isIterating = false;
 
-    @Override
-    public void run() {
-        isIterating = true;
-        Iterator<Entry<LivingEntity, BleedContainer>> bleedIterator = bleedList.entrySet().iterator();
-
-        while (bleedIterator.hasNext()) {
-            Entry<LivingEntity, BleedContainer> containerEntry = bleedIterator.next();
-            LivingEntity target = containerEntry.getKey();
-            int toolTier = containerEntry.getValue().toolTier;
+    private static long budgetTick = -1;
+    private static int bleedsThisTick = 0;
 
-//            String debugMessage = "";
-//            debugMessage += ChatColor.GOLD + "Target ["+target.getName()+"]: " + ChatColor.RESET;
+    private BleedTimerTask() {}
 
-//            debugMessage+="RemainingTicks=["+containerEntry.getValue().bleedTicks+"], ";
+    /**
+     * Read the rupture config, called once the config files are loaded.
+     */
+    public static void loadSettings() {
+        playerDamage = AdvancedConfig.getInstance().getRuptureDamagePlayer();
+        mobDamage = AdvancedConfig.getInstance().getRuptureDamageMobs();
+        maxBleedsPerTick = AdvancedConfig.getInstance().getRuptureMaxBleedsPerTick();
+    }
 
-            if (containerEntry.getValue().bleedTicks <= 0 || !target.isValid()) {
-                if(target instanceof Player)
-                {
-                    NotificationManager.sendPlayerInformation((Player) target, NotificationType.SUBSKILL_MESSAGE, "Swords.Combat.Bleeding.Stopped");
-                }
+    static void bleed(@NotNull BleedContainer container) {
+        LivingEntity target = container.target;
 
-                bleedIterator.remove();
-                continue;
+        if (container.bleedTicks <= 0 || !target.isValid()) {
+            if(target instanceof Player)
+            {
+                NotificationManager.sendPlayerInformation((Player) target, NotificationType.SUBSKILL_MESSAGE, "Swords.Combat.Bleeding.Stopped");
             }
 
-            int armorCount = 0;
-
-            double damage;
-
-            if (target instanceof Player) {
-                damage = AdvancedConfig.getInstance().getRuptureDamagePlayer();
-
-                //Above Bleed Rank 3 deals 50% more damage
-                if (containerEntry.getValue().toolTier >= 4 && containerEntry.getValue().bleedRank >= 3)
-                    damage = damage * 1.5;
-
-                Player player = (Player) target;
-
-                if (!player.isOnline()) {
-                    continue;
-                }
-
-                //Count Armor
-                for (ItemStack armorPiece : ((Player) target).getInventory().getArmorContents()) {
-                    //We only want to count slots that contain armor.
-                    if (armorPiece != null) {
-                        armorCount++;
-                    }
-                }
-
-            } else {
-                damage = AdvancedConfig.getInstance().getRuptureDamageMobs();
+            bleedList.remove(target.getEntityId(), container);
+            return;
+        }
 
-//                debugMessage+="BaseDMG=["+damage+"], ";
+        if (!consumeBudget()) {
+            container.schedule(1);
+            return;
+        }
 
-                //Above Bleed Rank 3 deals 50% more damage
-                if (containerEntry.getValue().bleedRank >= 3)
-                {
-                    damage = damage * 1.5;
-                }
+        int toolTier = container.toolTier;
+        double damage;
 
-//                debugMessage+="Rank4Bonus=["+String.valueOf(containerEntry.getValue().bleedRank >= 3)+"], ";
+        if (target instanceof Player) {
+            damage = playerDamage;
 
+            //Above Bleed Rank 3 deals 50% more damage
+            if (toolTier >= 4 && container.bleedRank >= 3)
+                damage = damage * 1.5;
 
-                MobHealthbarUtils.handleMobHealthbars(target, damage, mcMMO.p); //Update health bars
+            if (container.armorCount == -1) {
+                container.armorCount = countArmor((Player) target);
             }
 
-//            debugMessage+="FullArmor=["+String.valueOf(armorCount > 3)+"], ";
-
-            if(armorCount > 3)
+            if(container.armorCount > 3)
             {
                 damage = damage * .75;
             }
+        } else {
+            damage = mobDamage;
 
-//            debugMessage+="AfterRankAndArmorChecks["+damage+"], ";
-
-            //Weapons below Diamond get damage cut in half
-            if(toolTier < 4)
-                damage = damage / 2;
+            //Above Bleed Rank 3 deals 50% more damage
+            if (container.bleedRank >= 3)
+            {
+                damage = damage * 1.5;
+            }
 
-//            debugMessage+="AfterDiamondCheck=["+String.valueOf(damage)+"], ";
+            MobHealthbarUtils.handleMobHealthbars(target, damage, mcMMO.p); //Update health bars
+        }
 
-            //Wood weapons get damage cut in half again
-            if(toolTier < 2)
-                damage = damage / 2;
+        //Weapons below Diamond get damage cut in half
+        if(toolTier < 4)
+            damage = damage / 2;
 
-//            debugMessage+="AfterWoodenCheck=["+String.valueOf(damage)+"], ";
+        //Wood weapons get damage cut in half again
+        if(toolTier < 2)
+            damage = damage / 2;
 
-            double victimHealth = target.getHealth();
+        double victimHealth = target.getHealth();
 
-//            debugMessage+="TargetHealthBeforeDMG=["+String.valueOf(target.getHealth())+"], ";
+        isIterating = true;
 
+        try {
             //Fire a fake event
-            FakeEntityDamageByEntityEvent fakeEntityDamageByEntityEvent = (FakeEntityDamageByEntityEvent) CombatUtils.sendEntityDamageEvent(containerEntry.getValue().damageSource, target, EntityDamageEvent.DamageCause.CUSTOM, damage);
+            FakeEntityDamageByEntityEvent fakeEntityDamageByEntityEvent = (FakeEntityDamageByEntityEvent) CombatUtils.sendEntityDamageEvent(container.damageSource, target, EntityDamageEvent.DamageCause.CUSTOM, damage);
             Bukkit.getPluginManager().callEvent(fakeEntityDamageByEntityEvent);
 
-            CombatUtils.dealNoInvulnerabilityTickDamageRupture(target, damage, containerEntry.getValue().damageSource, toolTier);
+            CombatUtils.dealNoInvulnerabilityTickDamageRupture(target, damage, container.damageSource, toolTier);
+        } finally {
+            isIterating = false;
+        }
 
-            double victimHealthAftermath = target.getHealth();
+        double victimHealthAftermath = target.getHealth();
 
-//            debugMessage+="TargetHealthAfterDMG=["+String.valueOf(target.getHealth())+"], ";
+        if(victimHealthAftermath <= 0 || victimHealth != victimHealthAftermath)
+        {
+            //Play Bleed Sound
+            SoundManager.worldSendSound(target.getWorld(), target.getLocation(), SoundType.BLEED);
 
-            if(victimHealthAftermath <= 0 || victimHealth != victimHealthAftermath)
-            {
-                //Play Bleed Sound
-                SoundManager.worldSendSound(target.getWorld(), target.getLocation(), SoundType.BLEED);
+            ParticleEffectUtils.playBleedEffect(target);
+        }
 
-                ParticleEffectUtils.playBleedEffect(target);
-            }
+        //Lower Bleed Ticks
+        container.bleedTicks -= 1;
+        container.schedule(BLEED_INTERVAL);
+    }
 
-            //Lower Bleed Ticks
-            BleedContainer loweredBleedContainer = copyContainer(containerEntry.getValue());
-            loweredBleedContainer.bleedTicks -= 1;
+    private static boolean consumeBudget() {
+        if (maxBleedsPerTick <= 0) {
+            return true;
+        }
 
-//            debugMessage+="RemainingTicks=["+loweredBleedContainer.bleedTicks+"]";
-            containerEntry.setValue(loweredBleedContainer);
+        long currentTick = mcMMO.getTickTimerWheel().getCurrentTick();
 
-//            Bukkit.broadcastMessage(debugMessage);
+        if (currentTick != budgetTick) {
+            budgetTick = currentTick;
+            bleedsThisTick = 0;
         }
-        isIterating = false;
+
+        return bleedsThisTick++ < maxBleedsPerTick;
+    }
+
+    private static int countArmor(@NotNull Player player) {
+        int armorCount = 0;
+
+        for (ItemStack armorPiece : player.getInventory().getArmorContents()) {
+            //We only want to count slots that contain armor.
+            if (armorPiece != null) {
+                armorCount++;
+            }
+        }
+
+        return armorCount;
     }
 
     public static @NotNull BleedContainer copyContainer(@NotNull BleedContainer container)
@@ -160,18 +181,23 @@ public class BleedTimerTask extends BukkitRunnable {
         return new BleedContainer(target, bleedTicks, bleedRank, toolTier, source);
     }
 
+    private static BleedContainer getContainer(@NotNull LivingEntity entity) {
+        BleedContainer container = bleedList.get(entity.getEntityId());
+        return container != null && container.target.equals(entity) ? container : null;
+    }
+
     /**
      * Instantly Bleed out a LivingEntity
      *
      * @param entity LivingEntity to bleed out
      */
     public static void bleedOut(@NotNull LivingEntity entity) {
-        /*
-         * Don't remove anything from the list outside of run()
-         */
+        BleedContainer container = getContainer(entity);
 
-        if (bleedList.containsKey(entity)) {
-            CombatUtils.dealNoInvulnerabilityTickDamage(entity, bleedList.get(entity).bleedTicks * 2, bleedList.get(entity).damageSource);
+        if (container != null) {
+            container.cancel();
+            bleedList.remove(entity.getEntityId());
+            CombatUtils.dealNoInvulnerabilityTickDamage(entity, container.bleedTicks * 2, container.damageSource);
         }
     }
 
@@ -193,15 +219,32 @@ public class BleedTimerTask extends BukkitRunnable {
             return;
         }
 
-//        if (isIterating) throw new IllegalStateException("Cannot add task while iterating timers!");
-
         if(toolTier < 4)
             ticks = Math.max(1, (ticks / 3));
 
         ticks+=1;
 
         BleedContainer newBleedContainer = new BleedContainer(entity, ticks, bleedRank, toolTier, attacker);
-        bleedList.put(entity, newBleedContainer);
+        BleedContainer oldBleedContainer = bleedList.put(entity.getEntityId(), newBleedContainer);
+
+        if (oldBleedContainer != null) {
+            oldBleedContainer.cancel();
+        }
+
+        newBleedContainer.schedule(BLEED_INTERVAL);
+    }
+
+    /**
+     * Count the armor of a bleeding player again on their next bleed tick, called when they may have changed their equipment
+     *
+     * @param entity the player
+     */
+    public static void invalidateArmor(@NotNull HumanEntity entity) {
+        BleedContainer container = bleedList.get(entity.getEntityId());
+
+        if (container != null) {
+            container.armorCount = -1;
+        }
     }
 
     public static boolean isBleedOperationAllowed() {
@@ -209,6 +252,6 @@ public class BleedTimerTask extends BukkitRunnable {
     }
 
     public static boolean isBleeding(@NotNull LivingEntity entity) {
-        return bleedList.containsKey(entity);
+        return getContainer(entity) != null;
     }
 }
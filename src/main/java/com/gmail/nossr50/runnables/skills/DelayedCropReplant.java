@@ -1,6 +1,5 @@
 package com.gmail.nossr50.runnables.skills;
 
-import com.gmail.nossr50.datatypes.meta.RecentlyReplantedCropMeta;
 import com.gmail.nossr50.mcMMO;
 import com.gmail.nossr50.util.skills.ParticleEffectUtils;
 import org.bukkit.Location;
@@ -171,8 +170,7 @@ public class DelayedCropReplant extends BukkitRunnable {
         @Override
         public void run() {
             Block cropBlock = cropLoc.getBlock();
-            if(cropBlock.getMetadata(mcMMO.REPLANT_META_KEY).size() > 0)
-                cropBlock.setMetadata(mcMMO.REPLANT_META_KEY, new RecentlyReplantedCropMeta(mcMMO.p, false));
+            mcMMO.getTransientBlockMarkers().setRecentlyReplanted(cropBlock, false);
         }
     }
 
@@ -1,23 +1,21 @@
 package com.gmail.nossr50.runnables.skills;
 
-import com.gmail.nossr50.datatypes.BlockSnapshot;
 import com.gmail.nossr50.datatypes.player.McMMOPlayer;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.gmail.nossr50.skills.herbalism.PlantBlockSet;
+import com.gmail.nossr50.util.scheduler.TickTimer;
 
-import java.util.ArrayList;
-
-public class DelayedHerbalismXPCheckTask extends BukkitRunnable {
+public class DelayedHerbalismXPCheckTask extends TickTimer {
 
     private final McMMOPlayer mcMMOPlayer;
-    private final ArrayList<BlockSnapshot> chorusBlocks;
+    private final PlantBlockSet chorusBlocks;
 
-    public DelayedHerbalismXPCheckTask(McMMOPlayer mcMMOPlayer, ArrayList<BlockSnapshot> chorusBlocks) {
+    public DelayedHerbalismXPCheckTask(McMMOPlayer mcMMOPlayer, PlantBlockSet chorusBlocks) {
         this.mcMMOPlayer = mcMMOPlayer;
         this.chorusBlocks = chorusBlocks;
     }
 
     @Override
     public void run() {
-        mcMMOPlayer.getHerbalismManager().awardXPForBlockSnapshots(chorusBlocks);
+        mcMMOPlayer.getHerbalismManager().awardXPForBrokenPlants(chorusBlocks);
     }
 }
@@ -5,9 +5,9 @@ import com.gmail.nossr50.datatypes.interactions.NotificationType;
 import com.gmail.nossr50.datatypes.player.McMMOPlayer;
 import com.gmail.nossr50.datatypes.skills.ToolType;
 import com.gmail.nossr50.util.player.NotificationManager;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.gmail.nossr50.util.scheduler.TickTimer;
 
-public class ToolLowerTask extends BukkitRunnable {
+public class ToolLowerTask extends TickTimer {
     private final McMMOPlayer mcMMOPlayer;
     private final ToolType tool;
 
@@ -1,7 +1,7 @@
 package com.gmail.nossr50.skills.acrobatics;
 
 import com.gmail.nossr50.config.experience.ExperienceConfig;
-import com.gmail.nossr50.datatypes.BlockLocationHistory;
+import com.gmail.nossr50.datatypes.BlockPositionHistory;
 import com.gmail.nossr50.datatypes.experience.XPGainReason;
 import com.gmail.nossr50.datatypes.interactions.NotificationType;
 import com.gmail.nossr50.datatypes.player.McMMOPlayer;
@@ -28,13 +28,14 @@ public class AcrobaticsManager extends SkillManager {
 
     public AcrobaticsManager(McMMOPlayer mcMMOPlayer) {
         super(mcMMOPlayer, PrimarySkillType.ACROBATICS);
-        fallLocationMap = new BlockLocationHistory(50);
+        fallLocationMap = new BlockPositionHistory(50);
     }
 
     private long rollXPCooldown = 0;
     private final long rollXPInterval = (1000 * 3); //1 Minute
     private long rollXPIntervalLengthen = (1000 * 10); //10 Seconds
-    private final BlockLocationHistory fallLocationMap;
+    private final BlockPositionHistory fallLocationMap;
+    private final Location scratchLocation = new Location(null, 0, 0, 0);
 
     public boolean hasFallenInLocationBefore(Location location)
     {
@@ -46,6 +47,26 @@ public class AcrobaticsManager extends SkillManager {
         fallLocationMap.add(location);
     }
 
+    /**
+     * Check whether the player has fallen at the block they are currently at before
+     *
+     * @return true if the current block is in the fall history
+     */
+    public boolean hasFallenAtCurrentLocationBefore()
+    {
+        getPlayer().getLocation(scratchLocation);
+        return fallLocationMap.contains(scratchLocation);
+    }
+
+    /**
+     * Add the block the player is currently at to the fall history
+     */
+    public void addCurrentLocationToFallMap()
+    {
+        getPlayer().getLocation(scratchLocation);
+        fallLocationMap.add(scratchLocation);
+    }
+
     public boolean canGainRollXP()
     {
         if(!ExperienceConfig.getInstance().isAcrobaticsExploitingPrevented())
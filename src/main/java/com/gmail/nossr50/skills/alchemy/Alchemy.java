@@ -4,6 +4,7 @@ import com.gmail.nossr50.config.AdvancedConfig;
 import com.gmail.nossr50.datatypes.skills.SubSkillType;
 import com.gmail.nossr50.mcMMO;
 import com.gmail.nossr50.runnables.skills.AlchemyBrewTask;
+import com.gmail.nossr50.util.scheduler.TickTimer;
 import com.gmail.nossr50.util.skills.RankUtils;
 import org.bukkit.Location;
 
@@ -56,8 +57,41 @@ public final class Alchemy {
 
     public static Map<Location, AlchemyBrewTask> brewingStandMap = new HashMap<>();
 
+    // Advances every active brew, only scheduled while there are brews
+    private static final TickTimer brewDriver = new TickTimer() {
+        @Override
+        public void run() {
+            tickBrews();
+        }
+    };
+    private static final List<AlchemyBrewTask> brewsThisTick = new ArrayList<>();
+
     private Alchemy() {}
 
+    /**
+     * Make sure the brewing driver runs on the next tick.
+     */
+    public static void scheduleBrews() {
+        if (!brewDriver.isScheduled()) {
+            brewDriver.schedule(1);
+        }
+    }
+
+    private static void tickBrews() {
+        // Brews can finish or cancel other brews while we iterate
+        brewsThisTick.addAll(brewingStandMap.values());
+
+        for (AlchemyBrewTask alchemyBrewTask : brewsThisTick) {
+            alchemyBrewTask.tick();
+        }
+
+        brewsThisTick.clear();
+
+        if (!brewingStandMap.isEmpty()) {
+            brewDriver.schedule(1);
+        }
+    }
+
     /**
      * Finish all active brews.  Used upon Disable to prevent vanilla potions from being brewed upon next Enable.
      */
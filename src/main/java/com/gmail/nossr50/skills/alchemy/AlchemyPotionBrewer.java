@@ -83,22 +83,16 @@ public final class AlchemyPotionBrewer {
             return false;
         }
 
-        for (ItemStack ingredient : getValidIngredients(player)) {
-            if (item.isSimilar(ingredient)) {
-                return true;
-            }
-        }
-
-        return false;
+        return PotionConfig.getInstance().isValidIngredient(getIngredientTier(player), item);
     }
 
-    private static List<ItemStack> getValidIngredients(Player player) {
+    private static int getIngredientTier(Player player) {
         if(player == null || UserManager.getPlayer(player) == null)
         {
-            return PotionConfig.getInstance().getIngredients(1);
+            return 1;
         }
 
-        return PotionConfig.getInstance().getIngredients(!Permissions.isSubSkillEnabled(player, SubSkillType.ALCHEMY_CONCOCTIONS) ? 1 : UserManager.getPlayer(player).getAlchemyManager().getTier());
+        return !Permissions.isSubSkillEnabled(player, SubSkillType.ALCHEMY_CONCOCTIONS) ? 1 : UserManager.getPlayer(player).getAlchemyManager().getTier();
     }
 
     public static void finishBrewing(BlockState brewingStand, Player player, boolean forced) {
@@ -5,6 +5,7 @@ import com.gmail.nossr50.config.AdvancedConfig;
 import com.gmail.nossr50.config.experience.ExperienceConfig;
 import com.gmail.nossr50.datatypes.skills.SubSkillType;
 import com.gmail.nossr50.util.Misc;
+import com.gmail.nossr50.util.scheduler.TickTimer;
 import com.gmail.nossr50.util.skills.RankUtils;
 import org.bukkit.Material;
 import org.bukkit.entity.LivingEntity;
@@ -12,12 +13,25 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
 public class Archery {
-    private static final List<TrackedEntity> trackedEntities = new ArrayList<>();
+    // Ticks between sweeps for tracked entities which despawned or were removed without dying
+    private static final int SWEEP_INTERVAL = 12000;
+
+    // Entity id -> arrows stuck in it
+    private static final Map<Integer, TrackedEntity> trackedEntities = new HashMap<>();
+    private static final TickTimer sweepTimer = new TickTimer() {
+        @Override
+        public void run() {
+            trackedEntities.values().removeIf(trackedEntity -> !trackedEntity.getLivingEntity().isValid());
+
+            if (!trackedEntities.isEmpty()) {
+                schedule(SWEEP_INTERVAL);
+            }
+        }
+    };
 
     public static double skillShotMaxBonusDamage     = AdvancedConfig.getInstance().getSkillShotDamageMax();
 
@@ -26,25 +40,36 @@ public class Archery {
     public static final double DISTANCE_XP_MULTIPLIER = ExperienceConfig.getInstance().getArcheryDistanceMultiplier();
 
     protected static void incrementTrackerValue(LivingEntity livingEntity) {
-        for (TrackedEntity trackedEntity : trackedEntities) {
-            if (trackedEntity.getLivingEntity().getEntityId() == livingEntity.getEntityId()) {
-                trackedEntity.incrementArrowCount();
-                return;
-            }
+        TrackedEntity trackedEntity = getTrackedEntity(livingEntity);
+
+        if (trackedEntity == null) {
+            addToTracker(livingEntity); // If the entity isn't tracked yet
+            return;
         }
 
-        addToTracker(livingEntity); // If the entity isn't tracked yet
+        trackedEntity.incrementArrowCount();
     }
 
     protected static void addToTracker(LivingEntity livingEntity) {
         TrackedEntity trackedEntity = new TrackedEntity(livingEntity);
 
         trackedEntity.incrementArrowCount();
-        trackedEntities.add(trackedEntity);
+        trackedEntities.put(livingEntity.getEntityId(), trackedEntity);
+
+        if (!sweepTimer.isScheduled()) {
+            sweepTimer.schedule(SWEEP_INTERVAL);
+        }
     }
 
-    protected static void removeFromTracker(TrackedEntity trackedEntity) {
-        trackedEntities.remove(trackedEntity);
+    /**
+     * Stop tracking the arrows of an entity, used when it is unloaded.
+     *
+     * @param livingEntity The entity to forget
+     */
+    public static void removeFromTracker(@NotNull LivingEntity livingEntity) {
+        if (getTrackedEntity(livingEntity) != null) {
+            trackedEntities.remove(livingEntity.getEntityId());
+        }
     }
 
     /**
@@ -53,17 +78,25 @@ public class Archery {
      * @param livingEntity The entity hit by the arrows
      */
     public static void arrowRetrievalCheck(@NotNull LivingEntity livingEntity) {
-        for (Iterator<TrackedEntity> entityIterator = trackedEntities.iterator(); entityIterator.hasNext();) {
-            TrackedEntity trackedEntity = entityIterator.next();
+        TrackedEntity trackedEntity = getTrackedEntity(livingEntity);
 
-            if (trackedEntity.getID() == livingEntity.getUniqueId()) {
-                Misc.spawnItems(livingEntity.getLocation(), new ItemStack(Material.ARROW), trackedEntity.getArrowCount(), ItemSpawnReason.ARROW_RETRIEVAL_ACTIVATED);
-                entityIterator.remove();
-                return;
-            }
+        if (trackedEntity != null) {
+            Misc.spawnItems(livingEntity.getLocation(), new ItemStack(Material.ARROW), trackedEntity.getArrowCount(), ItemSpawnReason.ARROW_RETRIEVAL_ACTIVATED);
+            trackedEntities.remove(livingEntity.getEntityId());
         }
     }
 
+    private static TrackedEntity getTrackedEntity(LivingEntity livingEntity) {
+        TrackedEntity trackedEntity = trackedEntities.get(livingEntity.getEntityId());
+
+        // Entity ids can be reused once an entity is gone
+        if (trackedEntity == null || !trackedEntity.getLivingEntity().getUniqueId().equals(livingEntity.getUniqueId())) {
+            return null;
+        }
+
+        return trackedEntity;
+    }
+
     public static double getSkillShotBonusDamage(Player player, double oldDamage)
     {
         double damageBonusPercent = getDamageBonusPercent(player);
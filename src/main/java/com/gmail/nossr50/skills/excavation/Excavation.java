@@ -5,10 +5,8 @@ import com.gmail.nossr50.config.treasure.TreasureConfig;
 import com.gmail.nossr50.datatypes.skills.PrimarySkillType;
 import com.gmail.nossr50.datatypes.treasure.ExcavationTreasure;
 import com.gmail.nossr50.mcMMO;
-import com.gmail.nossr50.util.text.StringUtils;
 import org.bukkit.block.BlockState;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class Excavation {
@@ -16,13 +14,10 @@ public class Excavation {
      * Get the list of possible {@link ExcavationTreasure|ExcavationTreasures} obtained from a given block.
      *
      * @param blockState The {@link BlockState} of the block to check.
-     * @return the list of treasures that could be found
+     * @return the list of treasures that could be found, sorted by drop level
      */
     protected static List<ExcavationTreasure> getTreasures(BlockState blockState) {
-        String friendly = StringUtils.getFriendlyConfigBlockDataString(blockState.getBlockData());
-        if (TreasureConfig.getInstance().excavationMap.containsKey(friendly))
-            return TreasureConfig.getInstance().excavationMap.get(friendly);
-        return new ArrayList<>();
+        return TreasureConfig.getInstance().getExcavationTreasures(blockState.getBlockData());
     }
 
     protected static int getBlockXP(BlockState blockState) {
@@ -37,11 +37,17 @@ public class ExcavationManager extends SkillManager {
 
             if (!treasures.isEmpty()) {
                 int skillLevel = getSkillLevel();
+                boolean lucky = Permissions.lucky(getPlayer(), PrimarySkillType.EXCAVATION);
                 Location location = Misc.getBlockCenter(blockState);
 
                 for (ExcavationTreasure treasure : treasures) {
-                    if (skillLevel >= treasure.getDropLevel()
-                            && RandomChanceUtil.checkRandomChanceExecutionSuccess(getPlayer(), PrimarySkillType.EXCAVATION, treasure.getDropChance())) {
+                    // Treasures are sorted by drop level, none of the rest can drop either
+                    if (skillLevel < treasure.getDropLevel()) {
+                        break;
+                    }
+
+                    // Drop chances go down to 0.01%, so roll out of 10000
+                    if (RandomChanceUtil.rollDice(RandomChanceUtil.addLuck(lucky, treasure.getDropChance() * 100), 10000)) {
 
                         //Spawn Vanilla XP orbs if a dice roll succeeds
                         if(RandomChanceUtil.rollDice(getArchaelogyExperienceOrbChance(), 100)) {
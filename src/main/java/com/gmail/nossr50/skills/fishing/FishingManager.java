@@ -581,30 +581,20 @@ public class FishingManager extends SkillManager {
         // Rather than subtracting luck (and causing a minimum 3% chance for every drop), scale by luck.
         diceRoll *= (1.0 - luck * Config.getInstance().getFishingLureModifier() / 100);
 
-        FishingTreasure treasure = null;
-
-        for (Rarity rarity : Rarity.values()) {
-            double dropRate = FishingTreasureConfig.getInstance().getItemDropRate(getLootTier(), rarity);
-
-            if (diceRoll <= dropRate) {
-
-                List<FishingTreasure> fishingTreasures = FishingTreasureConfig.getInstance().fishingRewards.get(rarity);
-
-                if (fishingTreasures.isEmpty()) {
-                    return null;
-                }
+        Rarity rarity = FishingTreasureConfig.getInstance().getItemRarity(getLootTier(), diceRoll);
 
-                treasure = fishingTreasures.get(Misc.getRandom().nextInt(fishingTreasures.size()));
-                break;
-            }
-
-            diceRoll -= dropRate;
+        if (rarity == null) {
+            return null;
         }
 
-        if (treasure == null) {
+        List<FishingTreasure> fishingTreasures = FishingTreasureConfig.getInstance().fishingRewards.get(rarity);
+
+        if (fishingTreasures.isEmpty()) {
             return null;
         }
 
+        FishingTreasure treasure = fishingTreasures.get(Misc.getRandom().nextInt(fishingTreasures.size()));
+
         ItemStack treasureDrop = treasure.getDrop().clone();
         short maxDurability = treasureDrop.getType().getMaxDurability();
 
@@ -632,10 +622,11 @@ public class FishingManager extends SkillManager {
         List<EnchantmentTreasure> fishingEnchantments = null;
 
         double diceRoll = Misc.getRandom().nextDouble() * 100;
+        int lootTier = getLootTier();
 
         for (Rarity rarity : Rarity.values()) {
 
-            double dropRate = FishingTreasureConfig.getInstance().getEnchantmentDropRate(getLootTier(), rarity);
+            double dropRate = FishingTreasureConfig.getInstance().getEnchantmentDropRate(lootTier, rarity);
 
             if (diceRoll <= dropRate) {
                 // Make sure enchanted books always get some kind of enchantment.  --hoorigan
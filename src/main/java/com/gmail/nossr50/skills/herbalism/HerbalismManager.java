@@ -4,11 +4,9 @@ import com.gmail.nossr50.api.ItemSpawnReason;
 import com.gmail.nossr50.config.Config;
 import com.gmail.nossr50.config.experience.ExperienceConfig;
 import com.gmail.nossr50.config.treasure.TreasureConfig;
-import com.gmail.nossr50.datatypes.BlockSnapshot;
 import com.gmail.nossr50.datatypes.experience.XPGainReason;
 import com.gmail.nossr50.datatypes.experience.XPGainSource;
 import com.gmail.nossr50.datatypes.interactions.NotificationType;
-import com.gmail.nossr50.datatypes.meta.RecentlyReplantedCropMeta;
 import com.gmail.nossr50.datatypes.player.McMMOPlayer;
 import com.gmail.nossr50.datatypes.skills.PrimarySkillType;
 import com.gmail.nossr50.datatypes.skills.SubSkillType;
@@ -32,7 +30,6 @@ import com.gmail.nossr50.util.text.StringUtils;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
-import org.bukkit.block.BlockFace;
 import org.bukkit.block.BlockState;
 import org.bukkit.block.data.Ageable;
 import org.bukkit.block.data.BlockData;
@@ -41,7 +38,6 @@ import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -143,15 +139,13 @@ public class HerbalismManager extends SkillManager {
         if(blockBreakEvent.getBlock().getBlockData() instanceof Ageable) {
             Ageable ageableCrop = (Ageable) blockBreakEvent.getBlock().getBlockData();
 
-            if(blockBreakEvent.getBlock().getMetadata(mcMMO.REPLANT_META_KEY).size() >= 1) {
-                if(blockBreakEvent.getBlock().getMetadata(mcMMO.REPLANT_META_KEY).get(0).asBoolean()) {
-                    if(isAgeableMature(ageableCrop)) {
-                        blockBreakEvent.getBlock().removeMetadata(mcMMO.REPLANT_META_KEY, mcMMO.p);
-                    } else {
-                        //Crop is recently replanted to back out of destroying it
-                        blockBreakEvent.setCancelled(true);
-                        return;
-                    }
+            if(mcMMO.getTransientBlockMarkers().isRecentlyReplanted(blockBreakEvent.getBlock())) {
+                if(isAgeableMature(ageableCrop)) {
+                    mcMMO.getTransientBlockMarkers().setRecentlyReplanted(blockBreakEvent.getBlock(), false);
+                } else {
+                    //Crop is recently replanted to back out of destroying it
+                    blockBreakEvent.setCancelled(true);
+                    return;
                 }
             }
         }
@@ -162,7 +156,7 @@ public class HerbalismManager extends SkillManager {
          */
 
         //Grab all broken blocks
-        HashSet<Block> brokenBlocks = getBrokenHerbalismBlocks(blockBreakEvent);
+        PlantBlockSet brokenBlocks = getBrokenHerbalismBlocks(blockBreakEvent);
 
         if(brokenBlocks.size() == 0)
             return;
@@ -176,7 +170,7 @@ public class HerbalismManager extends SkillManager {
      * @param blockBreakEvent the block break event
      * @param brokenPlants plant blocks to process
      */
-    private void processHerbalismOnBlocksBroken(BlockBreakEvent blockBreakEvent, HashSet<Block> brokenPlants) {
+    private void processHerbalismOnBlocksBroken(BlockBreakEvent blockBreakEvent, PlantBlockSet brokenPlants) {
         BlockState originalBreak = blockBreakEvent.getBlock().getState();
         boolean greenThumbActivated = false;
 
@@ -201,34 +195,39 @@ public class HerbalismManager extends SkillManager {
          * Mark blocks for double drops
          * Be aware of the hacky interactions we are doing with Chorus Plants
          */
-        checkDoubleDropsOnBrokenPlants(blockBreakEvent.getPlayer(), brokenPlants);
+        List<Block> brokenPlantBlocks = brokenPlants.getBlocks();
+        checkDoubleDropsOnBrokenPlants(blockBreakEvent.getPlayer(), brokenPlantBlocks);
 
         //It would take an expensive algorithm to predict which parts of a Chorus Tree will break as a result of root break
         //So this hacky method is used instead
-        ArrayList<BlockSnapshot> delayedChorusBlocks = new ArrayList<>(); //Blocks that will be checked in future ticks
+        PlantBlockSet delayedChorusBlocks = new PlantBlockSet(brokenPlants.getWorld()); //Blocks that will be checked in future ticks
         HashSet<Block> noDelayPlantBlocks = new HashSet<>(); //Blocks that will be checked immediately
 
-        for(Block brokenPlant : brokenPlants) {
+        for(int i = 0; i < brokenPlants.size(); i++) {
+            Block brokenPlant = brokenPlantBlocks.get(i);
+            Material brokenPlantType = brokenPlants.getType(i);
+
             /*
              * This check is to make XP bars appear to work properly with Chorus Trees by giving XP for the originalBreak immediately instead of later
+             * The original break is always the first block of the set
              */
-            if(brokenPlant.getLocation().equals(originalBreak.getBlock().getLocation())) {
+            if(i == 0) {
                 //If its the same block as the original, we are going to directly check it for being a valid XP gain and add it to the nonChorusBlocks list even if its a chorus block
                 //This stops a delay from happening when bringing up the XP bar for chorus trees
                 if(!mcMMO.getPlaceStore().isTrue(originalBreak)) {
                     //Even if its a chorus block, the original break will be moved to nonChorusBlocks for immediate XP rewards
                     noDelayPlantBlocks.add(brokenPlant);
                 } else {
-                    if(isChorusTree(brokenPlant.getType())) {
+                    if(isChorusTree(brokenPlantType)) {
                         //If its a chorus tree AND it was marked as true in the placestore then we add this block to the list of chorus blocks
-                        delayedChorusBlocks.add(new BlockSnapshot(brokenPlant.getType(), brokenPlant));
+                        delayedChorusBlocks.add(brokenPlants, i);
                     } else {
                         noDelayPlantBlocks.add(brokenPlant); //If its not a chorus plant that was marked as unnatural but it was marked unnatural, put it in the nodelay list to be handled
                     }
                 }
-            } else if(isChorusTree(brokenPlant.getType())) {
+            } else if(isChorusTree(brokenPlantType)) {
                 //Chorus Blocks get checked for XP several ticks later to avoid expensive calculations
-                delayedChorusBlocks.add(new BlockSnapshot(brokenPlant.getType(), brokenPlant));
+                delayedChorusBlocks.add(brokenPlants, i);
             } else {
                 noDelayPlantBlocks.add(brokenPlant);
             }
@@ -245,7 +244,7 @@ public class HerbalismManager extends SkillManager {
             DelayedHerbalismXPCheckTask delayedHerbalismXPCheckTask = new DelayedHerbalismXPCheckTask(mmoPlayer, delayedChorusBlocks);
 
             //Large delay because the tree takes a while to break
-            delayedHerbalismXPCheckTask.runTaskLater(mcMMO.p, 20); //Calculate Chorus XP + Bonus Drops 1 tick later
+            delayedHerbalismXPCheckTask.schedule(20); //Calculate Chorus XP + Bonus Drops 1 tick later
         }
     }
 
@@ -404,9 +403,9 @@ public class HerbalismManager extends SkillManager {
 
     /**
      * Award XP for any blocks that used to be something else but are now AIR
-     * @param brokenPlants snapshot of broken blocks
+     * @param brokenPlants broken blocks with the type they had when they were broken
      */
-    public void awardXPForBlockSnapshots(ArrayList<BlockSnapshot> brokenPlants) {
+    public void awardXPForBrokenPlants(PlantBlockSet brokenPlants) {
         /*
          * This handles XP for blocks that we need to check are broken after the fact
          * This only applies to chorus trees right now
@@ -414,26 +413,24 @@ public class HerbalismManager extends SkillManager {
         int xpToReward = 0;
         int blocksGivingXP = 0;
 
-        for(BlockSnapshot blockSnapshot : brokenPlants) {
-            BlockState brokenBlockNewState = blockSnapshot.getBlockRef().getState();
+        for(int i = 0; i < brokenPlants.size(); i++) {
+            Block brokenBlock = brokenPlants.getBlock(i);
 
-            //Remove metadata from the snapshot of blocks
-            if(brokenBlockNewState.hasMetadata(mcMMO.BONUS_DROPS_METAKEY)) {
-                brokenBlockNewState.removeMetadata(mcMMO.BONUS_DROPS_METAKEY, mcMMO.p);
-            }
+            //Remove bonus drop markers from the broken blocks
+            mcMMO.getTransientBlockMarkers().removeBonusDrops(brokenBlock);
 
             //If the block is not AIR that means it wasn't broken
-            if(brokenBlockNewState.getType() != Material.AIR) {
+            if(brokenBlock.getType() != Material.AIR) {
                 continue;
             }
 
-            if(mcMMO.getPlaceStore().isTrue(brokenBlockNewState)) {
+            if(mcMMO.getPlaceStore().isTrue(brokenBlock)) {
                 //Mark it as natural again as it is being broken
-                mcMMO.getPlaceStore().setFalse(brokenBlockNewState);
+                mcMMO.getPlaceStore().setFalse(brokenBlock);
             } else {
                 //TODO: Do we care about chorus flower age?
                 //Calculate XP for the old type
-                xpToReward += ExperienceConfig.getInstance().getXp(PrimarySkillType.HERBALISM, blockSnapshot.getOldType());
+                xpToReward += ExperienceConfig.getInstance().getXp(PrimarySkillType.HERBALISM, brokenPlants.getType(i));
                 blocksGivingXP++;
             }
         }
@@ -454,49 +451,19 @@ public class HerbalismManager extends SkillManager {
      * @param blockBreakEvent target event
      * @return a set of plant-blocks that were broken as a result of this event
      */
-    private HashSet<Block> getBrokenHerbalismBlocks(BlockBreakEvent blockBreakEvent) {
-        //Get an updated capture of this block
-        BlockState originalBlockBlockState = blockBreakEvent.getBlock().getState();
-        Material originalBlockMaterial = originalBlockBlockState.getType();
-        HashSet<Block> blocksBroken = new HashSet<>(); //Blocks broken
+    private PlantBlockSet getBrokenHerbalismBlocks(BlockBreakEvent blockBreakEvent) {
+        //Only the material is needed to find the broken blocks
+        Block originalBlock = blockBreakEvent.getBlock();
+        Material originalBlockMaterial = originalBlock.getType();
 
         //Check if this block is a one block plant or not
-        boolean oneBlockPlant = isOneBlockPlant(originalBlockMaterial);
-
-        if(oneBlockPlant) {
+        if(isOneBlockPlant(originalBlockMaterial)) {
             //If the block is a one-block plant return only that
-            blocksBroken.add(originalBlockBlockState.getBlock());
-        } else {
-            //If the block is a multi-block structure, capture a set of all blocks broken and return that
-            blocksBroken = getBrokenBlocksMultiBlockPlants(originalBlockBlockState, blockBreakEvent);
+            return PlantBlockSet.single(originalBlock, originalBlockMaterial);
         }
 
-        //Return all broken plant-blocks
-        return blocksBroken;
-    }
-
-    private HashSet<Block> getBrokenChorusBlocks(BlockState originalBreak) {
-        return grabChorusTreeBrokenBlocksRecursive(originalBreak.getBlock(), new HashSet<>());
-    }
-
-    private HashSet<Block> grabChorusTreeBrokenBlocksRecursive(Block currentBlock, HashSet<Block> traversed) {
-        if (!isChorusTree(currentBlock.getType()))
-            return traversed;
-
-        // Prevent any infinite loops, who needs more than 256 chorus anyways
-        if (traversed.size() > 256)
-            return traversed;
-
-        if (!traversed.add(currentBlock))
-            return traversed;
-
-        //Grab all Blocks in the Tree
-        for (BlockFace blockFace : new BlockFace[] { BlockFace.UP, BlockFace.NORTH, BlockFace.SOUTH, BlockFace.EAST ,BlockFace.WEST})
-            grabChorusTreeBrokenBlocksRecursive(currentBlock.getRelative(blockFace, 1), traversed);
-
-        traversed.add(currentBlock);
-
-        return traversed;
+        //If the block is a multi-block structure, capture a set of all blocks broken and return that
+        return getBrokenBlocksMultiBlockPlants(originalBlock, originalBlockMaterial);
     }
 
     /**
@@ -504,20 +471,18 @@ public class HerbalismManager extends SkillManager {
      * The method to grab these blocks is a bit hacky and does not hook into the API
      * Basically we expect the blocks to be broken if this event is not cancelled and we determine which block are broken on our end rather than any event state captures
      *
-     * @param blockBreakEvent target event
+     * @param originalBlockBroken the block broken by the event
+     * @param originalBlockMaterial the type of the broken block
      * @return a set of plant-blocks broken from this event
      */
-    protected HashSet<Block> getBrokenBlocksMultiBlockPlants(BlockState originalBlockBroken, BlockBreakEvent blockBreakEvent) {
-        //Track the broken blocks
-        HashSet<Block> brokenBlocks;
-
-        if (isChorusBranch(originalBlockBroken.getType())) {
-            brokenBlocks = getBrokenChorusBlocks(originalBlockBroken);
-        } else {
-            brokenBlocks = getBlocksBrokenAbove(originalBlockBroken);
+    protected PlantBlockSet getBrokenBlocksMultiBlockPlants(Block originalBlockBroken, Material originalBlockMaterial) {
+        if (isChorusBranch(originalBlockMaterial)) {
+            return PlantBlockSet.collectChorusTree(originalBlockBroken, originalBlockMaterial);
         }
 
-        return brokenBlocks;
+        //A lot of Plants/Crops in Herbalism only break vertically from a broken block
+        //Multi-block plants are hard-coded and kept in MaterialMapStore
+        return PlantBlockSet.collectAbove(originalBlockBroken, originalBlockMaterial);
     }
 
     private boolean isChorusBranch(Material blockType) {
@@ -525,41 +490,7 @@ public class HerbalismManager extends SkillManager {
     }
 
     private boolean isChorusTree(Material blockType) {
-        return blockType == Material.CHORUS_PLANT || blockType == Material.CHORUS_FLOWER;
-    }
-
-    /**
-     * Grabs blocks upwards from a target block
-     * A lot of Plants/Crops in Herbalism only break vertically from a broken block
-     * The vertical search returns early if it runs into anything that is not a multi-block plant
-     * Multi-block plants are hard-coded and kept in {@link MaterialMapStore}
-     *
-     * @param breakPointBlockState The point of the "break"
-     * @return A set of blocks above the target block which can be assumed to be broken
-     */
-    private HashSet<Block> getBlocksBrokenAbove(BlockState breakPointBlockState) {
-        HashSet<Block> brokenBlocks = new HashSet<>();
-        Block block = breakPointBlockState.getBlock();
-
-        //Add the initial block to the set
-        brokenBlocks.add(block);
-
-        //Limit our search
-        int maxHeight = 255;
-
-        // Search vertically for multi-block plants, exit early if any non-multi block plants
-        for (int y = 1; y < maxHeight; y++) {
-            //TODO: Should this grab state? It would be more expensive..
-            Block relativeUpBlock = block.getRelative(BlockFace.UP, y);
-
-            //Abandon our search if the block isn't multi
-            if(!mcMMO.getMaterialMapStore().isMultiBlockPlant(relativeUpBlock.getType()))
-                break;
-
-            brokenBlocks.add(relativeUpBlock);
-        }
-
-        return brokenBlocks;
+        return PlantBlockSet.isChorusTree(blockType);
     }
 
     /**
@@ -677,7 +608,7 @@ public class HerbalismManager extends SkillManager {
     private void startReplantTask(int desiredCropAge, BlockBreakEvent blockBreakEvent, BlockState cropState, boolean isImmature) {
         //Mark the plant as recently replanted to avoid accidental breakage
         new DelayedCropReplant(blockBreakEvent, cropState, desiredCropAge, isImmature).runTaskLater(mcMMO.p, 20 * 2);
-        blockBreakEvent.getBlock().setMetadata(mcMMO.REPLANT_META_KEY, new RecentlyReplantedCropMeta(mcMMO.p, true));
+        mcMMO.getTransientBlockMarkers().setRecentlyReplanted(blockBreakEvent.getBlock(), true);
     }
 
     /**
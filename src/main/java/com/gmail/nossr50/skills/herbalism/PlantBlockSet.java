@@ -0,0 +1,256 @@
+package com.gmail.nossr50.skills.herbalism;
+
+import com.gmail.nossr50.mcMMO;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The plant blocks broken by a single block break, together with the material each block had when it was collected.
+ * <p>
+ * Positions are packed into longs and the traversals only read block materials, {@link Block}s are only created
+ * for the positions that need one. The block that was broken originally is always the first entry.
+ * Main thread only.
+ */
+public final class PlantBlockSet {
+    // Prevent any infinite loops, who needs more than 256 chorus anyways
+    private static final int MAX_CHORUS_BLOCKS = 257;
+    // Limit our search
+    private static final int MAX_HEIGHT = 255;
+    // Chorus neighbors in reverse order of visiting, so up is visited first, then north, south, east and west
+    private static final int[] CHORUS_DX = {-1, 1, 0, 0, 0};
+    private static final int[] CHORUS_DY = {0, 0, 0, 0, 1};
+    private static final int[] CHORUS_DZ = {0, 0, 1, -1, 0};
+
+    private final World world;
+    private long[] positions = new long[4];
+    private Material[] types = new Material[4];
+    private int size = 0;
+
+    PlantBlockSet(@NotNull World world) {
+        this.world = world;
+    }
+
+    /**
+     * A one block plant.
+     *
+     * @param block the broken block
+     * @param type the type of the block
+     * @return a set containing only the block
+     */
+    static @NotNull PlantBlockSet single(@NotNull Block block, @NotNull Material type) {
+        PlantBlockSet plantBlocks = new PlantBlockSet(block.getWorld());
+        plantBlocks.add(pack(block.getX(), block.getY(), block.getZ()), type);
+        return plantBlocks;
+    }
+
+    /**
+     * Collect the block and all multi-block plants stacked on top of it.
+     * A lot of Plants/Crops in Herbalism only break vertically from a broken block.
+     *
+     * @param block the broken block
+     * @param type the type of the block
+     * @return the block and the plants above it
+     */
+    static @NotNull PlantBlockSet collectAbove(@NotNull Block block, @NotNull Material type) {
+        PlantBlockSet plantBlocks = single(block, type);
+        int x = block.getX();
+        int z = block.getZ();
+
+        for (int y = block.getY() + 1; y < block.getY() + MAX_HEIGHT; y++) {
+            Material aboveType = plantBlocks.world.getBlockAt(x, y, z).getType();
+
+            //Abandon our search if the block isn't multi
+            if (!mcMMO.getMaterialMapStore().isMultiBlockPlant(aboveType)) {
+                break;
+            }
+
+            plantBlocks.add(pack(x, y, z), aboveType);
+        }
+
+        return plantBlocks;
+    }
+
+    /**
+     * Collect all chorus blocks connected to the block, only going up and sideways.
+     *
+     * @param block the broken chorus block
+     * @param type the type of the block
+     * @return the connected chorus blocks
+     */
+    static @NotNull PlantBlockSet collectChorusTree(@NotNull Block block, @NotNull Material type) {
+        PlantBlockSet plantBlocks = new PlantBlockSet(block.getWorld());
+        PositionSet traversed = new PositionSet();
+        long[] stack = new long[16];
+        int stackSize = 0;
+
+        if (!isChorusTree(type)) {
+            return plantBlocks;
+        }
+
+        long origin = pack(block.getX(), block.getY(), block.getZ());
+        traversed.add(origin);
+        plantBlocks.add(origin, type);
+        stack[stackSize++] = origin;
+
+        while (stackSize > 0 && plantBlocks.size < MAX_CHORUS_BLOCKS) {
+            long position = stack[--stackSize];
+            int x = unpackX(position);
+            int y = unpackY(position);
+            int z = unpackZ(position);
+
+            for (int i = 0; i < CHORUS_DX.length; i++) {
+                int neighborX = x + CHORUS_DX[i];
+                int neighborY = y + CHORUS_DY[i];
+                int neighborZ = z + CHORUS_DZ[i];
+                long neighbor = pack(neighborX, neighborY, neighborZ);
+
+                if (traversed.contains(neighbor)) {
+                    continue;
+                }
+
+                Material neighborType = plantBlocks.world.getBlockAt(neighborX, neighborY, neighborZ).getType();
+
+                if (!isChorusTree(neighborType) || plantBlocks.size >= MAX_CHORUS_BLOCKS) {
+                    continue;
+                }
+
+                traversed.add(neighbor);
+                plantBlocks.add(neighbor, neighborType);
+
+                if (stackSize == stack.length) {
+                    stack = Arrays.copyOf(stack, stackSize * 2);
+                }
+
+                stack[stackSize++] = neighbor;
+            }
+        }
+
+        return plantBlocks;
+    }
+
+    static boolean isChorusTree(Material blockType) {
+        return blockType == Material.CHORUS_PLANT || blockType == Material.CHORUS_FLOWER;
+    }
+
+    /**
+     * Copy an entry of another set into this one.
+     *
+     * @param plantBlocks the other set, must be of the same world
+     * @param index index of the entry in the other set
+     */
+    void add(@NotNull PlantBlockSet plantBlocks, int index) {
+        add(plantBlocks.positions[index], plantBlocks.types[index]);
+    }
+
+    private void add(long position, Material type) {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+            types = Arrays.copyOf(types, size * 2);
+        }
+
+        positions[size] = position;
+        types[size] = type;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public @NotNull World getWorld() {
+        return world;
+    }
+
+    /**
+     * @param index index of the entry
+     * @return the material the block had when it was collected
+     */
+    public @NotNull Material getType(int index) {
+        return types[index];
+    }
+
+    public @NotNull Block getBlock(int index) {
+        long position = positions[index];
+        return world.getBlockAt(unpackX(position), unpackY(position), unpackZ(position));
+    }
+
+    /**
+     * @return the blocks of all entries, in order
+     */
+    public @NotNull List<Block> getBlocks() {
+        List<Block> blocks = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            blocks.add(getBlock(i));
+        }
+
+        return blocks;
+    }
+
+    private static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+    }
+
+    private static int unpackX(long position) {
+        return (int) (position >> 38);
+    }
+
+    private static int unpackY(long position) {
+        return (int) (position << 52 >> 52);
+    }
+
+    private static int unpackZ(long position) {
+        return (int) (position << 26 >> 38);
+    }
+
+    /**
+     * Open addressing set of packed positions, big enough for a full chorus tree
+     */
+    private static final class PositionSet {
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private final long[] table = new long[1024];
+
+        private PositionSet() {
+            Arrays.fill(table, EMPTY);
+        }
+
+        private boolean contains(long position) {
+            int slot = getSlot(position);
+
+            while (table[slot] != EMPTY) {
+                if (table[slot] == position) {
+                    return true;
+                }
+
+                slot = (slot + 1) & (table.length - 1);
+            }
+
+            return false;
+        }
+
+        private void add(long position) {
+            int slot = getSlot(position);
+
+            while (table[slot] != EMPTY) {
+                if (table[slot] == position) {
+                    return;
+                }
+
+                slot = (slot + 1) & (table.length - 1);
+            }
+
+            table[slot] = position;
+        }
+
+        private int getSlot(long position) {
+            return (int) ((position * 0x9E3779B97F4A7C15L) >>> 32) & (table.length - 1);
+        }
+    }
+}
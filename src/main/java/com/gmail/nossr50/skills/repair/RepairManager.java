@@ -37,6 +37,15 @@ public class RepairManager extends SkillManager {
     private boolean placedAnvil;
     private int     lastClick;
 
+    // Values derived from the skill level and ranks, recalculated whenever the skill level changes
+    private int     cachedSkillLevel = -1;
+    private int     arcaneForgingRank;
+    private double  keepEnchantChance;
+    private double  downgradeEnchantChance;
+    private double  repairMasteryBonus;
+    private boolean repairMasteryUnlocked;
+    private boolean superRepairUnlocked;
+
     public RepairManager(McMMOPlayer mcMMOPlayer) {
         super(mcMMOPlayer, PrimarySkillType.REPAIR);
     }
@@ -64,6 +73,7 @@ public class RepairManager extends SkillManager {
 
     public void handleRepair(ItemStack item) {
         Player player = getPlayer();
+        updateCachedSkillValues();
         Repairable repairable = mcMMO.getRepairableManager().getRepairable(item.getType());
 
         if (item.getItemMeta().isUnbreakable()) {
@@ -195,7 +205,8 @@ public class RepairManager extends SkillManager {
      * @return the current Arcane Forging rank
      */
     public int getArcaneForgingRank() {
-        return RankUtils.getRank(getPlayer(), SubSkillType.REPAIR_ARCANE_FORGING);
+        updateCachedSkillValues();
+        return arcaneForgingRank;
     }
 
     /**
@@ -204,7 +215,8 @@ public class RepairManager extends SkillManager {
      * @return The chance of keeping the enchantment
      */
     public double getKeepEnchantChance() {
-        return AdvancedConfig.getInstance().getArcaneForgingKeepEnchantsChance(getArcaneForgingRank());
+        updateCachedSkillValues();
+        return keepEnchantChance;
     }
 
     /**
@@ -213,7 +225,35 @@ public class RepairManager extends SkillManager {
      * @return The chance of the enchantment being downgraded
      */
     public double getDowngradeEnchantChance() {
-        return AdvancedConfig.getInstance().getArcaneForgingDowngradeChance(getArcaneForgingRank());
+        updateCachedSkillValues();
+        return downgradeEnchantChance;
+    }
+
+    /**
+     * Recalculates the ranks, chances and bonuses of the player if their skill level changed since the last calculation.
+     * Ranks only depend on the skill level and the config is only read on startup, so nothing else can change them.
+     */
+    private void updateCachedSkillValues() {
+        int skillLevel = getSkillLevel();
+
+        if (skillLevel == cachedSkillLevel) {
+            return;
+        }
+
+        Player player = getPlayer();
+
+        arcaneForgingRank = RankUtils.getRank(player, SubSkillType.REPAIR_ARCANE_FORGING);
+        keepEnchantChance = AdvancedConfig.getInstance().getArcaneForgingKeepEnchantsChance(arcaneForgingRank);
+        downgradeEnchantChance = AdvancedConfig.getInstance().getArcaneForgingDowngradeChance(arcaneForgingRank);
+
+        repairMasteryUnlocked = RankUtils.hasUnlockedSubskill(player, SubSkillType.REPAIR_REPAIR_MASTERY);
+        superRepairUnlocked = RankUtils.hasUnlockedSubskill(player, SubSkillType.REPAIR_SUPER_REPAIR);
+
+        double maxBonusCalc = Repair.repairMasteryMaxBonus / 100.0D;
+        double skillLevelBonusCalc = (Repair.repairMasteryMaxBonus / Repair.repairMasteryMaxBonusLevel) * (skillLevel / 100.0D);
+        repairMasteryBonus = Math.min(skillLevelBonusCalc, maxBonusCalc);
+
+        cachedSkillLevel = skillLevel;
     }
 
     /*
@@ -260,12 +300,8 @@ public class RepairManager extends SkillManager {
     private short repairCalculate(short durability, int repairAmount) {
         Player player = getPlayer();
 
-        if (Permissions.isSubSkillEnabled(player, SubSkillType.REPAIR_REPAIR_MASTERY)
-                && RankUtils.hasUnlockedSubskill(getPlayer(), SubSkillType.REPAIR_REPAIR_MASTERY)) {
-
-            double maxBonusCalc = Repair.repairMasteryMaxBonus / 100.0D;
-            double skillLevelBonusCalc = (Repair.repairMasteryMaxBonus / Repair.repairMasteryMaxBonusLevel) * (getSkillLevel() / 100.0D);
-            double bonus = repairAmount * Math.min(skillLevelBonusCalc, maxBonusCalc);
+        if (repairMasteryUnlocked && Permissions.isSubSkillEnabled(player, SubSkillType.REPAIR_REPAIR_MASTERY)) {
+            double bonus = repairAmount * repairMasteryBonus;
 
 
             repairAmount += bonus;
@@ -288,7 +324,7 @@ public class RepairManager extends SkillManager {
      * @return true if bonus granted, false otherwise
      */
     private boolean checkPlayerProcRepair() {
-        if(!RankUtils.hasUnlockedSubskill(getPlayer(), SubSkillType.REPAIR_SUPER_REPAIR))
+        if(!superRepairUnlocked)
             return false;
 
         if (RandomChanceUtil.isActivationSuccessful(SkillActivationType.RANDOM_LINEAR_100_SCALE_WITH_CAP, SubSkillType.REPAIR_SUPER_REPAIR, getPlayer())) {
@@ -318,7 +354,7 @@ public class RepairManager extends SkillManager {
             return;
         }
 
-        if (getArcaneForgingRank() == 0 || !Permissions.isSubSkillEnabled(player, SubSkillType.REPAIR_ARCANE_FORGING)) {
+        if (arcaneForgingRank == 0 || !Permissions.isSubSkillEnabled(player, SubSkillType.REPAIR_ARCANE_FORGING)) {
             for (Enchantment enchant : enchants.keySet()) {
                 item.removeEnchantment(enchant);
             }
@@ -328,6 +364,9 @@ public class RepairManager extends SkillManager {
         }
 
         boolean downgraded = false;
+        // The same for every enchant, only the rolls differ
+        RandomChanceSkillStatic keepEnchant = new RandomChanceSkillStatic(keepEnchantChance, player, SubSkillType.REPAIR_ARCANE_FORGING);
+        RandomChanceSkillStatic keepEnchantLevel = new RandomChanceSkillStatic(100 - downgradeEnchantChance, player, SubSkillType.REPAIR_ARCANE_FORGING);
 
         for (Entry<Enchantment, Integer> enchant : enchants.entrySet()) {
             int enchantLevel = enchant.getValue();
@@ -342,10 +381,10 @@ public class RepairManager extends SkillManager {
 
             Enchantment enchantment = enchant.getKey();
 
-            if (RandomChanceUtil.checkRandomChanceExecutionSuccess(new RandomChanceSkillStatic(getKeepEnchantChance(), getPlayer(), SubSkillType.REPAIR_ARCANE_FORGING))) {
+            if (RandomChanceUtil.checkRandomChanceExecutionSuccess(keepEnchant)) {
 
                 if (ArcaneForging.arcaneForgingDowngrades && enchantLevel > 1
-                        && (!RandomChanceUtil.checkRandomChanceExecutionSuccess(new RandomChanceSkillStatic(100 - getDowngradeEnchantChance(), getPlayer(), SubSkillType.REPAIR_ARCANE_FORGING)))) {
+                        && (!RandomChanceUtil.checkRandomChanceExecutionSuccess(keepEnchantLevel))) {
                     item.addUnsafeEnchantment(enchantment, enchantLevel - 1);
                     downgraded = true;
                 }
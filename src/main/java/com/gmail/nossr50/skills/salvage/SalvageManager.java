@@ -39,6 +39,15 @@ public class SalvageManager extends SkillManager {
     private boolean placedAnvil;
     private int     lastClick;
 
+    // Values derived from the skill level and ranks, recalculated whenever the skill level changes
+    private int     cachedSkillLevel = -1;
+    private int     salvageLimit;
+    private int     arcaneSalvageRank;
+    private boolean arcaneSalvageUnlocked;
+    private boolean arcaneSalvageMaxRank;
+    private double  extractFullEnchantChance;
+    private double  extractPartialEnchantChance;
+
     public SalvageManager(McMMOPlayer mcMMOPlayer) {
         super(mcMMOPlayer, PrimarySkillType.SALVAGE);
     }
@@ -66,6 +75,7 @@ public class SalvageManager extends SkillManager {
 
     public void handleSalvage(Location location, ItemStack item) {
         Player player = getPlayer();
+        updateCachedSkillValues();
 
         Salvageable salvageable = mcMMO.getSalvageableManager().getSalvageable(item.getType());
         ItemMeta meta = item.getItemMeta();
@@ -105,7 +115,7 @@ public class SalvageManager extends SkillManager {
             return;
         }
 
-        potentialSalvageYield = Math.min(potentialSalvageYield, getSalvageLimit()); // Always get at least something back, if you're capable of salvaging it.
+        potentialSalvageYield = Math.min(potentialSalvageYield, salvageLimit); // Always get at least something back, if you're capable of salvaging it.
 
         location.add(0.5, 1, 0.5);
 
@@ -131,9 +141,9 @@ public class SalvageManager extends SkillManager {
             }
         }
 
-        if(lotteryResults == potentialSalvageYield && potentialSalvageYield != 1 && RankUtils.isPlayerMaxRankInSubSkill(player, SubSkillType.SALVAGE_ARCANE_SALVAGE)) {
+        if(lotteryResults == potentialSalvageYield && potentialSalvageYield != 1 && arcaneSalvageMaxRank) {
             NotificationManager.sendPlayerInformationChatOnly(player, "Salvage.Skills.Lottery.Perfect", String.valueOf(lotteryResults), StringUtils.getPrettyItemString(item.getType()));
-        } else if(salvageable.getMaximumQuantity() == 1 || getSalvageLimit() >= salvageable.getMaximumQuantity()) {
+        } else if(salvageable.getMaximumQuantity() == 1 || salvageLimit >= salvageable.getMaximumQuantity()) {
             NotificationManager.sendPlayerInformationChatOnly(player,  "Salvage.Skills.Lottery.Normal", String.valueOf(lotteryResults), StringUtils.getPrettyItemString(item.getType()));
         } else {
             NotificationManager.sendPlayerInformationChatOnly(player,  "Salvage.Skills.Lottery.Untrained", String.valueOf(lotteryResults), StringUtils.getPrettyItemString(item.getType()));
@@ -180,7 +190,8 @@ public class SalvageManager extends SkillManager {
     }*/
 
     public int getSalvageLimit() {
-        return (RankUtils.getRank(getPlayer(), SubSkillType.SALVAGE_SCRAP_COLLECTOR));
+        updateCachedSkillValues();
+        return salvageLimit;
     }
 
     /**
@@ -189,7 +200,8 @@ public class SalvageManager extends SkillManager {
      * @return the current Arcane Salvage rank
      */
     public int getArcaneSalvageRank() {
-        return RankUtils.getRank(getPlayer(), SubSkillType.SALVAGE_ARCANE_SALVAGE);
+        updateCachedSkillValues();
+        return arcaneSalvageRank;
     }
 
     /*public double getExtractFullEnchantChance() {
@@ -220,17 +232,42 @@ public class SalvageManager extends SkillManager {
         if(Permissions.hasSalvageEnchantBypassPerk(getPlayer()))
             return 100.0D;
 
-        return AdvancedConfig.getInstance().getArcaneSalvageExtractFullEnchantsChance(getArcaneSalvageRank());
+        updateCachedSkillValues();
+        return extractFullEnchantChance;
     }
 
     public double getExtractPartialEnchantChance() {
-        return AdvancedConfig.getInstance().getArcaneSalvageExtractPartialEnchantsChance(getArcaneSalvageRank());
+        updateCachedSkillValues();
+        return extractPartialEnchantChance;
+    }
+
+    /**
+     * Recalculates the ranks and chances of the player if their skill level changed since the last calculation.
+     * Ranks only depend on the skill level and the config is only read on startup, so nothing else can change them.
+     */
+    private void updateCachedSkillValues() {
+        int skillLevel = getSkillLevel();
+
+        if (skillLevel == cachedSkillLevel) {
+            return;
+        }
+
+        Player player = getPlayer();
+
+        salvageLimit = RankUtils.getRank(player, SubSkillType.SALVAGE_SCRAP_COLLECTOR);
+        arcaneSalvageRank = RankUtils.getRank(player, SubSkillType.SALVAGE_ARCANE_SALVAGE);
+        arcaneSalvageUnlocked = RankUtils.hasUnlockedSubskill(player, SubSkillType.SALVAGE_ARCANE_SALVAGE);
+        arcaneSalvageMaxRank = RankUtils.isPlayerMaxRankInSubSkill(player, SubSkillType.SALVAGE_ARCANE_SALVAGE);
+        extractFullEnchantChance = AdvancedConfig.getInstance().getArcaneSalvageExtractFullEnchantsChance(arcaneSalvageRank);
+        extractPartialEnchantChance = AdvancedConfig.getInstance().getArcaneSalvageExtractPartialEnchantsChance(arcaneSalvageRank);
+
+        cachedSkillLevel = skillLevel;
     }
 
     private ItemStack arcaneSalvageCheck(Map<Enchantment, Integer> enchants) {
         Player player = getPlayer();
 
-        if (!RankUtils.hasUnlockedSubskill(player, SubSkillType.SALVAGE_ARCANE_SALVAGE) || !Permissions.arcaneSalvage(player)) {
+        if (!arcaneSalvageUnlocked || !Permissions.arcaneSalvage(player)) {
             NotificationManager.sendPlayerInformationChatOnly(player, "Salvage.Skills.ArcaneFailed");
             return null;
         }
@@ -240,6 +277,10 @@ public class SalvageManager extends SkillManager {
 
         boolean downgraded = false;
         int arcaneFailureCount = 0;
+        // The same for every enchant, only the rolls differ
+        boolean enchantBypass = Permissions.hasSalvageEnchantBypassPerk(player);
+        RandomChanceSkillStatic extractFullEnchant = new RandomChanceSkillStatic(extractFullEnchantChance, player, SubSkillType.SALVAGE_ARCANE_SALVAGE);
+        RandomChanceSkillStatic extractPartialEnchant = new RandomChanceSkillStatic(extractPartialEnchantChance, player, SubSkillType.SALVAGE_ARCANE_SALVAGE);
 
         for (Entry<Enchantment, Integer> enchant : enchants.entrySet()) {
 
@@ -252,13 +293,13 @@ public class SalvageManager extends SkillManager {
             }
 
             if (!Salvage.arcaneSalvageEnchantLoss
-                    || Permissions.hasSalvageEnchantBypassPerk(player)
-                    || RandomChanceUtil.checkRandomChanceExecutionSuccess(new RandomChanceSkillStatic(getExtractFullEnchantChance(), getPlayer(), SubSkillType.SALVAGE_ARCANE_SALVAGE))) {
+                    || enchantBypass
+                    || RandomChanceUtil.checkRandomChanceExecutionSuccess(extractFullEnchant)) {
                 enchantMeta.addStoredEnchant(enchant.getKey(), enchantLevel, true);
             }
             else if (enchantLevel > 1
                     && Salvage.arcaneSalvageDowngrades
-                    && RandomChanceUtil.checkRandomChanceExecutionSuccess(new RandomChanceSkillStatic(getExtractPartialEnchantChance(), getPlayer(), SubSkillType.SALVAGE_ARCANE_SALVAGE))) {
+                    && RandomChanceUtil.checkRandomChanceExecutionSuccess(extractPartialEnchant)) {
                 enchantMeta.addStoredEnchant(enchant.getKey(), enchantLevel - 1, true);
                 downgraded = true;
             } else {
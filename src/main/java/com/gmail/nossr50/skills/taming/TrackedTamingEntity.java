@@ -4,12 +4,12 @@ import com.gmail.nossr50.config.Config;
 import com.gmail.nossr50.datatypes.skills.subskills.taming.CallOfTheWildType;
 import com.gmail.nossr50.mcMMO;
 import com.gmail.nossr50.util.Misc;
+import com.gmail.nossr50.util.scheduler.TickTimer;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.jetbrains.annotations.NotNull;
 
-public class TrackedTamingEntity extends BukkitRunnable {
+public class TrackedTamingEntity extends TickTimer {
     private final @NotNull LivingEntity livingEntity;
     private final @NotNull CallOfTheWildType callOfTheWildType;
     private final @NotNull Player player;
@@ -23,14 +23,13 @@ public class TrackedTamingEntity extends BukkitRunnable {
 
         if (tamingCOTWLength > 0) {
             int length = tamingCOTWLength * Misc.TICK_CONVERSION_FACTOR;
-            this.runTaskLater(mcMMO.p, length);
+            this.schedule(length);
         }
     }
 
     @Override
     public void run() {
         mcMMO.getTransientEntityTracker().removeSummon(this.getLivingEntity(), player, true);
-        this.cancel();
     }
 
     public @NotNull CallOfTheWildType getCallOfTheWildType() {
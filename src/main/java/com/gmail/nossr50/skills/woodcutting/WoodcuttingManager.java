@@ -32,6 +32,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -271,11 +272,13 @@ public class WoodcuttingManager extends SkillManager {
 
     /**
      * Handles the dropping of blocks
+     * Drops are merged and spawned once all blocks have been processed, see {@link ItemDropAggregator}
      *
      * @param treeFellerBlocks List of blocks to be dropped
      */
     private void dropTreeFellerLootFromBlocks(@NotNull Set<BlockState> treeFellerBlocks) {
         Player player = getPlayer();
+        ItemDropAggregator drops = new ItemDropAggregator();
         int xp = 0;
         int processedLogCount = 0;
 
@@ -296,21 +299,24 @@ public class WoodcuttingManager extends SkillManager {
                 xp += processTreeFellerXPGains(blockState, processedLogCount);
 
                 //Drop displaced block
-                Misc.spawnItemsFromCollection(Misc.getBlockCenter(blockState), block.getDrops(), ItemSpawnReason.TREE_FELLER_DISPLACED_BLOCK);
+                Collection<ItemStack> blockDrops = block.getDrops();
+                drops.addAll(Misc.getBlockCenter(blockState), blockDrops, ItemSpawnReason.TREE_FELLER_DISPLACED_BLOCK);
 
                 //Bonus Drops / Harvest lumber checks
-                processHarvestLumber(blockState);
+                if (checkHarvestLumberActivation(blockState.getType())) {
+                    drops.addAll(Misc.getBlockCenter(blockState), blockDrops, ItemSpawnReason.BONUS_DROPS);
+                }
             } else if (BlockUtils.isNonWoodPartOfTree(blockState)) {
                 //Drop displaced non-woodcutting XP blocks
 
                 if(RankUtils.hasUnlockedSubskill(player, SubSkillType.WOODCUTTING_KNOCK_ON_WOOD)) {
-                    Misc.spawnItemsFromCollection(Misc.getBlockCenter(blockState), block.getDrops(), ItemSpawnReason.TREE_FELLER_DISPLACED_BLOCK);
+                    drops.addAll(Misc.getBlockCenter(blockState), block.getDrops(), ItemSpawnReason.TREE_FELLER_DISPLACED_BLOCK);
 
                     if(RankUtils.hasReachedRank(2, player, SubSkillType.WOODCUTTING_KNOCK_ON_WOOD)) {
                         if(AdvancedConfig.getInstance().isKnockOnWoodXPOrbEnabled()) {
                             if(RandomChanceUtil.rollDice(10, 100)) {
                                 int randOrbCount = Math.max(1, Misc.getRandom().nextInt(100));
-                                Misc.spawnExperienceOrb(blockState.getLocation(), randOrbCount);
+                                drops.addExperience(blockState.getLocation(), randOrbCount);
                             }
                         }
                     }
@@ -327,6 +333,7 @@ public class WoodcuttingManager extends SkillManager {
             processedLogCount = updateProcessedLogCount(xp, processedLogCount, beforeXP);
         }
 
+        drops.spawnAll();
         applyXpGain(xp, XPGainReason.PVE);
     }
 
@@ -2,7 +2,6 @@ package com.gmail.nossr50.util;
 
 import com.gmail.nossr50.config.Config;
 import com.gmail.nossr50.config.experience.ExperienceConfig;
-import com.gmail.nossr50.datatypes.meta.BonusDropMeta;
 import com.gmail.nossr50.datatypes.skills.PrimarySkillType;
 import com.gmail.nossr50.datatypes.skills.SubSkillType;
 import com.gmail.nossr50.mcMMO;
@@ -32,9 +31,9 @@ public final class BlockUtils {
      */
     public static void markDropsAsBonus(BlockState blockState, boolean triple) {
         if (triple)
-            blockState.setMetadata(mcMMO.BONUS_DROPS_METAKEY, new BonusDropMeta(2, mcMMO.p));
+            mcMMO.getTransientBlockMarkers().setBonusDrops(blockState, 2);
         else
-            blockState.setMetadata(mcMMO.BONUS_DROPS_METAKEY, new BonusDropMeta(1, mcMMO.p));
+            mcMMO.getTransientBlockMarkers().setBonusDrops(blockState, 1);
     }
 
     /**
@@ -43,7 +42,7 @@ public final class BlockUtils {
      * @param amount amount of extra items to drop
      */
     public static void markDropsAsBonus(BlockState blockState, int amount) {
-            blockState.setMetadata(mcMMO.BONUS_DROPS_METAKEY, new BonusDropMeta(amount, mcMMO.p));
+            mcMMO.getTransientBlockMarkers().setBonusDrops(blockState, amount);
     }
 
     /**
@@ -0,0 +1,246 @@
+package com.gmail.nossr50.util;
+
+import com.gmail.nossr50.api.ItemSpawnReason;
+import com.gmail.nossr50.config.AdvancedConfig;
+import com.gmail.nossr50.events.items.McMMOItemSpawnEvent;
+import com.gmail.nossr50.mcMMO;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the item drops of a single operation such as Tree Feller or Blast Mining and spawns them merged.
+ * <p>
+ * Similar items are merged into full stacks per spawn reason and per cluster of blocks, every merged stack is spawned
+ * at the center of the drops it was made of and fires a single {@link McMMOItemSpawnEvent}.
+ * If that would spawn more stacks than the entity limit, the clusters are merged as well. Items are never discarded.
+ * Experience orbs are merged the same way.
+ */
+public class ItemDropAggregator {
+    private final int maxEntities;
+    private final int clusterSize;
+
+    // Item with an amount of 1 -> piles of that item
+    private final Map<ItemStack, List<DropPile>> piles = new LinkedHashMap<>();
+    private final List<DropPile> experiencePiles = new ArrayList<>();
+
+    public ItemDropAggregator() {
+        this(AdvancedConfig.getInstance().getDropMergingMaxEntities(), AdvancedConfig.getInstance().getDropMergingClusterSize());
+    }
+
+    /**
+     * @param maxEntities number of item stacks above which clusters are merged, 0 for no limit
+     * @param clusterSize drops are merged within square areas of this many blocks, 0 merges all drops
+     */
+    public ItemDropAggregator(int maxEntities, int clusterSize) {
+        this.maxEntities = maxEntities;
+        this.clusterSize = clusterSize;
+    }
+
+    /**
+     * Queue an item to be dropped.
+     *
+     * @param location where the item would have been dropped
+     * @param itemStack the item
+     * @param itemSpawnReason the reason for the drop
+     */
+    public void add(@NotNull Location location, @NotNull ItemStack itemStack, @NotNull ItemSpawnReason itemSpawnReason) {
+        if (itemStack.getType() == Material.AIR || itemStack.getAmount() <= 0 || location.getWorld() == null) {
+            return;
+        }
+
+        ItemStack key = itemStack.clone();
+        key.setAmount(1);
+
+        List<DropPile> itemPiles = piles.computeIfAbsent(key, itemKey -> new ArrayList<>(1));
+        getPile(itemPiles, location, itemSpawnReason).add(location, itemStack.getAmount());
+    }
+
+    /**
+     * Queue a collection of items to be dropped.
+     *
+     * @param location where the items would have been dropped
+     * @param drops the items
+     * @param itemSpawnReason the reason for the drops
+     */
+    public void addAll(@NotNull Location location, @NotNull Collection<ItemStack> drops, @NotNull ItemSpawnReason itemSpawnReason) {
+        for (ItemStack drop : drops) {
+            add(location, drop, itemSpawnReason);
+        }
+    }
+
+    /**
+     * Queue experience to be dropped as an orb.
+     *
+     * @param location where the orb would have been spawned
+     * @param experienceValue the experience
+     */
+    public void addExperience(@NotNull Location location, int experienceValue) {
+        if (experienceValue <= 0 || location.getWorld() == null) {
+            return;
+        }
+
+        getPile(experiencePiles, location, null).add(location, experienceValue);
+    }
+
+    /**
+     * Spawn everything queued so far and reset.
+     *
+     * @return number of item entities spawned
+     */
+    public int spawnAll() {
+        int spawnedEntities = 0;
+
+        if (maxEntities > 0 && countStacks() > maxEntities) {
+            mergeClusters();
+
+            int stacks = countStacks();
+
+            if (stacks > maxEntities) {
+                mcMMO.p.debug("Spawning " + stacks + " merged item stacks, more than the limit of " + maxEntities + " because there are too many different items");
+            }
+        }
+
+        for (Map.Entry<ItemStack, List<DropPile>> entry : piles.entrySet()) {
+            ItemStack key = entry.getKey();
+            int maxStackSize = getMaxStackSize(key);
+
+            for (DropPile pile : entry.getValue()) {
+                Location center = pile.getCenter();
+                long remaining = pile.amount;
+
+                while (remaining > 0) {
+                    ItemStack stack = key.clone();
+                    stack.setAmount((int) Math.min(remaining, maxStackSize));
+                    remaining -= stack.getAmount();
+
+                    Misc.spawnItem(center, stack, pile.itemSpawnReason);
+                    spawnedEntities++;
+                }
+            }
+        }
+
+        for (DropPile pile : experiencePiles) {
+            Misc.spawnExperienceOrb(pile.getCenter(), (int) Math.min(pile.amount, Integer.MAX_VALUE));
+        }
+
+        piles.clear();
+        experiencePiles.clear();
+        return spawnedEntities;
+    }
+
+    private int countStacks() {
+        int stacks = 0;
+
+        for (Map.Entry<ItemStack, List<DropPile>> entry : piles.entrySet()) {
+            int maxStackSize = getMaxStackSize(entry.getKey());
+
+            for (DropPile pile : entry.getValue()) {
+                stacks += (int) Math.min(Integer.MAX_VALUE - stacks, (pile.amount + maxStackSize - 1) / maxStackSize);
+            }
+        }
+
+        return stacks;
+    }
+
+    /**
+     * Merge the piles of every item into one pile per world and spawn reason, as if the cluster size was 0
+     */
+    private void mergeClusters() {
+        for (List<DropPile> itemPiles : piles.values()) {
+            List<DropPile> mergedPiles = new ArrayList<>(1);
+
+            for (DropPile pile : itemPiles) {
+                DropPile mergedPile = null;
+
+                for (DropPile candidate : mergedPiles) {
+                    if (candidate.world == pile.world && candidate.itemSpawnReason == pile.itemSpawnReason) {
+                        mergedPile = candidate;
+                        break;
+                    }
+                }
+
+                if (mergedPile == null) {
+                    mergedPiles.add(pile);
+                } else {
+                    mergedPile.merge(pile);
+                }
+            }
+
+            itemPiles.clear();
+            itemPiles.addAll(mergedPiles);
+        }
+    }
+
+    private static int getMaxStackSize(ItemStack itemStack) {
+        return Math.max(1, itemStack.getMaxStackSize());
+    }
+
+    private DropPile getPile(List<DropPile> itemPiles, Location location, ItemSpawnReason itemSpawnReason) {
+        World world = location.getWorld();
+        int cellX = getCell(location.getX());
+        int cellZ = getCell(location.getZ());
+
+        for (DropPile pile : itemPiles) {
+            if (pile.world == world && pile.cellX == cellX && pile.cellZ == cellZ && pile.itemSpawnReason == itemSpawnReason) {
+                return pile;
+            }
+        }
+
+        DropPile pile = new DropPile(world, cellX, cellZ, itemSpawnReason);
+        itemPiles.add(pile);
+        return pile;
+    }
+
+    private int getCell(double coordinate) {
+        return clusterSize > 0 ? (int) Math.floor(coordinate / clusterSize) : 0;
+    }
+
+    /**
+     * Drops of one item and reason within one cluster, the location sums are weighted by amount
+     */
+    private static final class DropPile {
+        private final World world;
+        private final int cellX;
+        private final int cellZ;
+        private final ItemSpawnReason itemSpawnReason;
+
+        private long amount = 0;
+        private double sumX = 0;
+        private double sumY = 0;
+        private double sumZ = 0;
+
+        private DropPile(World world, int cellX, int cellZ, ItemSpawnReason itemSpawnReason) {
+            this.world = world;
+            this.cellX = cellX;
+            this.cellZ = cellZ;
+            this.itemSpawnReason = itemSpawnReason;
+        }
+
+        private void add(Location location, int amount) {
+            this.amount += amount;
+            sumX += location.getX() * amount;
+            sumY += location.getY() * amount;
+            sumZ += location.getZ() * amount;
+        }
+
+        private void merge(DropPile pile) {
+            amount += pile.amount;
+            sumX += pile.sumX;
+            sumY += pile.sumY;
+            sumZ += pile.sumZ;
+        }
+
+        private Location getCenter() {
+            return new Location(world, sumX / amount, sumY / amount, sumZ / amount);
+        }
+    }
+}
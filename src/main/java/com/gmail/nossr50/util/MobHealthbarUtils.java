@@ -13,7 +13,14 @@ import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.metadata.FixedMetadataValue;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
 public final class MobHealthbarUtils {
+    // Entity -> the task restoring its name, pushed back on every hit instead of stacking new tasks
+    private static final Map<UUID, MobHealthDisplayUpdaterTask> healthDisplayTimers = new HashMap<>();
+
     private MobHealthbarUtils() {}
 
     /**
@@ -82,10 +89,26 @@ public final class MobHealthbarUtils {
                 target.setMetadata(mcMMO.customVisibleKey, new FixedMetadataValue(mcMMO.p, false));
             }
 
-            new MobHealthDisplayUpdaterTask(target).runTaskLater(mcMMO.p, displayTime * Misc.TICK_CONVERSION_FACTOR); // Clear health display after 3 seconds
+            MobHealthDisplayUpdaterTask healthDisplayTimer = healthDisplayTimers.get(target.getUniqueId());
+
+            if (healthDisplayTimer == null) {
+                healthDisplayTimer = new MobHealthDisplayUpdaterTask(target);
+                healthDisplayTimers.put(target.getUniqueId(), healthDisplayTimer);
+            }
+
+            healthDisplayTimer.schedule(displayTime * Misc.TICK_CONVERSION_FACTOR); // Clear health display after 3 seconds
         }
     }
 
+    /**
+     * Forget the health display task of an entity once its name has been restored.
+     *
+     * @param target the entity whose health display was cleared
+     */
+    public static void removeHealthDisplayTimer(LivingEntity target) {
+        healthDisplayTimers.remove(target.getUniqueId());
+    }
+
     private static String createHealthDisplay(MobHealthbarType mobHealthbarType, LivingEntity entity, double damage) {
         double maxHealth = entity.getMaxHealth();
         double currentHealth = Math.max(entity.getHealth() - damage, 0);
@@ -11,6 +11,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.Sound;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
@@ -18,18 +19,20 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
+/**
+ * Tracks the entities summoned by Call of the Wild.
+ * <p>
+ * Summons are indexed by owner and type for counting, and by entity UUID for membership checks and removal.
+ * Chunk unloads look up the entities of the chunk in the entity index, so nothing has to follow summons around.
+ */
 public class TransientEntityTracker {
-    //These two are updated in step with each other
+    //These are updated in step with each other
     private final @NotNull HashMap<UUID, HashMap<CallOfTheWildType, HashSet<TrackedTamingEntity>>> perPlayerTransientEntityMap;
-    private final @NotNull HashSet<LivingEntity> chunkLookupCache;
+    private final @NotNull HashMap<UUID, SummonRecord> summonsByEntityId;
 
     public TransientEntityTracker() {
         perPlayerTransientEntityMap = new HashMap<>();
-        chunkLookupCache = new HashSet<>();
-    }
-
-    public synchronized @NotNull HashSet<LivingEntity> getChunkLookupCache() {
-        return chunkLookupCache;
+        summonsByEntityId = new HashMap<>();
     }
 
     public synchronized @NotNull HashMap<UUID, HashMap<CallOfTheWildType, HashSet<TrackedTamingEntity>>> getPerPlayerTransientEntityMap() {
@@ -67,12 +70,12 @@ public class TransientEntityTracker {
      * @param playerUUID target player UUID
      */
     private void cleanPlayer(@Nullable Player player, @NotNull UUID playerUUID) {
-        cleanupAllSummons(player, player.getUniqueId());
+        cleanupAllSummons(player, playerUUID);
         removePlayerFromMap(playerUUID);
     }
 
     private void removePlayerFromMap(@NotNull UUID playerUUID) {
-        getPerPlayerTransientEntityMap().remove(playerUUID);
+        perPlayerTransientEntityMap.remove(playerUUID);
     }
 
     /**
@@ -82,8 +85,8 @@ public class TransientEntityTracker {
      * @param playerUUID target player
      * @return true if the player is registered
      */
-    private synchronized boolean isPlayerRegistered(@NotNull UUID playerUUID) {
-        return getPerPlayerTransientEntityMap().get(playerUUID) != null;
+    private boolean isPlayerRegistered(@NotNull UUID playerUUID) {
+        return perPlayerTransientEntityMap.get(playerUUID) != null;
     }
 
     /**
@@ -91,12 +94,14 @@ public class TransientEntityTracker {
      *
      * @param playerUUID player to register
      */
-    private synchronized void registerPlayer(@NotNull UUID playerUUID) {
-        getPerPlayerTransientEntityMap().put(playerUUID, new HashMap<CallOfTheWildType, HashSet<TrackedTamingEntity>>());
+    private void registerPlayer(@NotNull UUID playerUUID) {
+        HashMap<CallOfTheWildType, HashSet<TrackedTamingEntity>> playerEntityMap = new HashMap<>();
 
         for(CallOfTheWildType callOfTheWildType : CallOfTheWildType.values()) {
-            getPerPlayerTransientEntityMap().get(playerUUID).put(callOfTheWildType, new HashSet<>());
+            playerEntityMap.put(callOfTheWildType, new HashSet<>());
         }
+
+        perPlayerTransientEntityMap.put(playerUUID, playerEntityMap);
     }
 
     /**
@@ -106,22 +111,26 @@ public class TransientEntityTracker {
      * @return the tracked entities map for the player, null if the player isn't registered
      */
     public synchronized @Nullable HashMap<CallOfTheWildType, HashSet<TrackedTamingEntity>> getPlayerTrackedEntityMap(@NotNull UUID playerUUID) {
-        return getPerPlayerTransientEntityMap().get(playerUUID);
+        return perPlayerTransientEntityMap.get(playerUUID);
     }
 
     /**
      * Registers an entity to a player
-     * This includes registration to our per-player map and our chunk lookup cache
+     * This includes registration to our per-player map and our entity index
      *
      * @param playerUUID target player's UUID
      * @param trackedTamingEntity target entity
      */
     public synchronized void registerEntity(@NotNull UUID playerUUID, @NotNull TrackedTamingEntity trackedTamingEntity) {
         //Add to map entry
-        getTrackedEntities(playerUUID, trackedTamingEntity.getCallOfTheWildType()).add(trackedTamingEntity);
+        HashSet<TrackedTamingEntity> trackedEntities = getTrackedEntities(playerUUID, trackedTamingEntity.getCallOfTheWildType());
+
+        if(trackedEntities != null) {
+            trackedEntities.add(trackedTamingEntity);
+        }
 
-        //Add to cache for chunk lookups
-        addToChunkLookupCache(trackedTamingEntity);
+        //Add to the index for entity lookups
+        summonsByEntityId.put(trackedTamingEntity.getLivingEntity().getUniqueId(), new SummonRecord(trackedTamingEntity, playerUUID));
     }
 
     /**
@@ -131,7 +140,7 @@ public class TransientEntityTracker {
      * @return true if target living entity is a summon
      */
     public synchronized boolean isTransientSummon(@NotNull LivingEntity livingEntity) {
-        return getChunkLookupCache().contains(livingEntity);
+        return summonsByEntityId.containsKey(livingEntity.getUniqueId());
     }
 
     /**
@@ -142,8 +151,8 @@ public class TransientEntityTracker {
      * @param callOfTheWildType target type
      * @return the set of tracked entities for the player, null if the player isn't registered, the set can be empty
      */
-    private synchronized @Nullable HashSet<TrackedTamingEntity> getTrackedEntities(@NotNull UUID playerUUID, @NotNull CallOfTheWildType callOfTheWildType) {
-        HashMap<CallOfTheWildType, HashSet<TrackedTamingEntity>> playerEntityMap = getPlayerTrackedEntityMap(playerUUID);
+    private @Nullable HashSet<TrackedTamingEntity> getTrackedEntities(@NotNull UUID playerUUID, @NotNull CallOfTheWildType callOfTheWildType) {
+        HashMap<CallOfTheWildType, HashSet<TrackedTamingEntity>> playerEntityMap = perPlayerTransientEntityMap.get(playerUUID);
 
         if(playerEntityMap == null)
             return null;
@@ -151,65 +160,30 @@ public class TransientEntityTracker {
         return playerEntityMap.get(callOfTheWildType);
     }
 
-    /**
-     * Adds an entity to our chunk lookup cache
-     *
-     * @param trackedTamingEntity target tracked taming entity
-     */
-    private synchronized void addToChunkLookupCache(@NotNull TrackedTamingEntity trackedTamingEntity) {
-        getChunkLookupCache().add(trackedTamingEntity.getLivingEntity());
-    }
-
     /**
      * Removes an entity from our tracker
-     * This includes removal from our per-player map and our chunk lookup cache
+     * This includes removal from our per-player map and our entity index
      *
      * @param livingEntity target entity
      */
     private void unregisterEntity(@NotNull LivingEntity livingEntity) {
-        chunkLookupCacheCleanup(livingEntity);
-        perPlayerTransientMapCleanup(livingEntity);
-    }
+        SummonRecord summonRecord = summonsByEntityId.remove(livingEntity.getUniqueId());
 
-    /**
-     * Removes an entity from our chunk lookup cache
-     *
-     * @param livingEntity target entity
-     */
-    private void chunkLookupCacheCleanup(@NotNull LivingEntity livingEntity) {
-        getChunkLookupCache().remove(livingEntity);
-    }
+        if(summonRecord == null)
+            return;
 
-    /**
-     * Clean a living entity from our tracker
-     * Iterates over all players and their registered entities
-     * Doesn't do any kind of failure checking, if it doesn't find any player with a registered entity nothing bad happens or is reported
-     * However it should never happen like that, so maybe we could consider adding some failure to execute checking in the future
-     *
-     * @param livingEntity
-     */
-    private void perPlayerTransientMapCleanup(@NotNull LivingEntity livingEntity) {
-        for(UUID uuid : getPerPlayerTransientEntityMap().keySet()) {
-            for(CallOfTheWildType callOfTheWildType : CallOfTheWildType.values()) {
+        summonRecord.trackedTamingEntity.cancel();
 
-                HashSet<TrackedTamingEntity> trackedEntities = getTrackedEntities(uuid, callOfTheWildType);
+        HashSet<TrackedTamingEntity> trackedEntities = getTrackedEntities(summonRecord.ownerUUID, summonRecord.trackedTamingEntity.getCallOfTheWildType());
 
-                if(trackedEntities == null)
-                    continue;
-
-                Iterator<TrackedTamingEntity> iterator = trackedEntities.iterator();
-                while (iterator.hasNext()) {
-                    if(iterator.next().getLivingEntity().equals(livingEntity)) {
-                        iterator.remove();
-                        return;
-                    }
-                }
-            }
+        if(trackedEntities != null) {
+            trackedEntities.remove(summonRecord.trackedTamingEntity);
         }
     }
 
     /**
      * Get all transient entities that exist in a specific chunk
+     * Only the entities of the chunk are checked, each against the entity index
      *
      * @param chunk the chunk to match
      * @return a list of transient entities that are located in the provided chunk
@@ -217,9 +191,13 @@ public class TransientEntityTracker {
     public synchronized @NotNull List<LivingEntity> getAllTransientEntitiesInChunk(@NotNull Chunk chunk) {
         ArrayList<LivingEntity> matchingEntities = new ArrayList<>();
 
-        for(LivingEntity livingEntity : getChunkLookupCache()) {
-            if(livingEntity.getLocation().getChunk().equals(chunk)) {
-                matchingEntities.add(livingEntity);
+        if(summonsByEntityId.isEmpty())
+            return matchingEntities;
+
+        //Every entity of the chunk is visited once, so there are no duplicates to filter
+        for(Entity entity : chunk.getEntities()) {
+            if(entity instanceof LivingEntity && summonsByEntityId.containsKey(entity.getUniqueId())) {
+                matchingEntities.add((LivingEntity) entity);
             }
         }
 
@@ -244,7 +222,7 @@ public class TransientEntityTracker {
 
     /**
      * Kills a summon and removes its metadata
-     * Then it removes it from the tracker / chunk lookup cache
+     * Then it removes it from the tracker and its indexes
      *
      * @param livingEntity entity to remove
      * @param player associated player
@@ -313,4 +291,17 @@ public class TransientEntityTracker {
 
         }
     }
+
+    /**
+     * A tracked summon with its owner
+     */
+    private static final class SummonRecord {
+        private final @NotNull TrackedTamingEntity trackedTamingEntity;
+        private final @NotNull UUID ownerUUID;
+
+        private SummonRecord(@NotNull TrackedTamingEntity trackedTamingEntity, @NotNull UUID ownerUUID) {
+            this.trackedTamingEntity = trackedTamingEntity;
+            this.ownerUUID = ownerUUID;
+        }
+    }
 }
@@ -35,5 +35,6 @@ public class TransientMetadataTools {
 
         //Cleanup mob metadata
         mcMMO.getCompatibilityManager().getPersistentDataLayer().removeMobFlags(livingEntity);
+        mcMMO.getCompatibilityManager().getPersistentDataLayer().invalidateMobFlags(livingEntity);
     }
 }
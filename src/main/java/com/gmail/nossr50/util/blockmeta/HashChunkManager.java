@@ -153,19 +153,8 @@ public class HashChunkManager implements ChunkManager {
     }
 
     private synchronized boolean isTrue(int x, int y, int z, @NotNull World world) {
-        CoordinateKey chunkKey = blockCoordinateToChunkKey(world.getUID(), x, y, z);
-
         // Get chunk, load from file if necessary
-        // Get/Load/Create chunkstore
-        ChunkStore check = chunkMap.computeIfAbsent(chunkKey, k -> {
-            // Load from file
-            ChunkStore loaded = loadChunk(chunkKey.x, chunkKey.z, world);
-            if (loaded == null)
-                return null;
-            // Mark chunk in-use for region tracking
-            chunkUsageMap.computeIfAbsent(toRegionKey(chunkKey.worldID, chunkKey.x, chunkKey.z), j -> new HashSet<>()).add(chunkKey);
-            return loaded;
-        });
+        ChunkStore check = getChunkStore(world, x >> 4, z >> 4, false);
 
         // No chunk, return false
         if (check == null)
@@ -208,25 +197,8 @@ public class HashChunkManager implements ChunkManager {
     }
 
     private synchronized void set(int x, int y, int z, @NotNull World world, boolean value){
-        CoordinateKey chunkKey = blockCoordinateToChunkKey(world.getUID(), x, y, z);
-
-        // Get/Load/Create chunkstore
-        ChunkStore cStore = chunkMap.computeIfAbsent(chunkKey, k -> {
-            // Load from file
-            ChunkStore loaded = loadChunk(chunkKey.x, chunkKey.z, world);
-            if (loaded != null)
-            {
-                chunkUsageMap.computeIfAbsent(toRegionKey(chunkKey.worldID, chunkKey.x, chunkKey.z), j -> new HashSet<>()).add(chunkKey);
-                return loaded;
-            }
-            // If setting to false, no need to create an empty chunkstore
-            if (!value)
-                return null;
-            // Mark chunk in-use for region tracking
-            chunkUsageMap.computeIfAbsent(toRegionKey(chunkKey.worldID, chunkKey.x, chunkKey.z), j -> new HashSet<>()).add(chunkKey);
-            // Create a new chunkstore
-            return new BitSetChunkStore(world, chunkKey.x, chunkKey.z);
-        });
+        // Get/Load/Create chunkstore, if setting to false there is no need to create an empty chunkstore
+        ChunkStore cStore = getChunkStore(world, x >> 4, z >> 4, value);
 
         // Indicates setting false on empty chunkstore
         if (cStore == null)
@@ -240,8 +212,53 @@ public class HashChunkManager implements ChunkManager {
         cStore.set(ix, y, iz, value);
     }
 
-    private @NotNull CoordinateKey blockCoordinateToChunkKey(@NotNull UUID worldUid, int x, int y, int z) {
-        return toChunkKey(worldUid, x >> 4, z >> 4);
+    @Override
+    public synchronized boolean[] isTrueBatch(@NotNull Collection<Block> blocks) {
+        boolean[] result = new boolean[blocks.size()];
+        ChunkLookup lookup = new ChunkLookup();
+        int i = 0;
+
+        for (Block block : blocks) {
+            ChunkStore check = lookup.get(block, false);
+
+            if (check != null) {
+                result[i] = check.isTrue(Math.abs(block.getX()) % 16, block.getY(), Math.abs(block.getZ()) % 16);
+            }
+
+            i++;
+        }
+
+        return result;
+    }
+
+    @Override
+    public synchronized void setTrue(@NotNull Collection<Block> blocks) {
+        ChunkLookup lookup = new ChunkLookup();
+
+        for (Block block : blocks) {
+            lookup.get(block, true).set(Math.abs(block.getX()) % 16, block.getY(), Math.abs(block.getZ()) % 16, true);
+        }
+    }
+
+    /**
+     * Get the chunkstore of a chunk, loading it from its region file if it isn't in memory yet
+     *
+     * @param create whether to create an empty chunkstore if the chunk has none
+     * @return the chunkstore, or null if the chunk has none and create is false
+     */
+    private synchronized @Nullable ChunkStore getChunkStore(@NotNull World world, int cx, int cz, boolean create) {
+        CoordinateKey chunkKey = toChunkKey(world.getUID(), cx, cz);
+
+        return chunkMap.computeIfAbsent(chunkKey, k -> {
+            // Load from file
+            ChunkStore loaded = loadChunk(chunkKey.x, chunkKey.z, world);
+            if (loaded == null && !create)
+                return null;
+            // Mark chunk in-use for region tracking
+            chunkUsageMap.computeIfAbsent(toRegionKey(chunkKey.worldID, chunkKey.x, chunkKey.z), j -> new HashSet<>()).add(chunkKey);
+            // Create a new chunkstore if there was none
+            return loaded != null ? loaded : new BitSetChunkStore(world, chunkKey.x, chunkKey.z);
+        });
     }
 
     private @NotNull CoordinateKey toChunkKey(@NotNull UUID worldUid, int cx, int cz){
@@ -255,6 +272,32 @@ public class HashChunkManager implements ChunkManager {
         return new CoordinateKey(worldUid, rx, rz);
     }
 
+    /**
+     * Remembers the last chunkstore of a batch, blocks in a batch are usually next to each other
+     */
+    private final class ChunkLookup {
+        private World world;
+        private int cx;
+        private int cz;
+        private ChunkStore chunkStore;
+
+        private ChunkStore get(@NotNull Block block, boolean create) {
+            int blockCx = block.getX() >> 4;
+            int blockCz = block.getZ() >> 4;
+            World blockWorld = block.getWorld();
+
+            // A chunk without a chunkstore is looked up again when one has to be created
+            if (blockWorld != world || blockCx != cx || blockCz != cz || (create && chunkStore == null)) {
+                world = blockWorld;
+                cx = blockCx;
+                cz = blockCz;
+                chunkStore = getChunkStore(blockWorld, blockCx, blockCz, create);
+            }
+
+            return chunkStore;
+        }
+    }
+
     private static final class CoordinateKey {
         public final @NotNull UUID worldID;
         public final int x;
@@ -5,6 +5,8 @@ import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+
 public class NullChunkManager implements ChunkManager {
 
     @Override
@@ -37,4 +39,12 @@ public class NullChunkManager implements ChunkManager {
 
     @Override
     public void setFalse(@NotNull BlockState blockState) {}
+
+    @Override
+    public boolean[] isTrueBatch(@NotNull Collection<Block> blocks) {
+        return new boolean[blocks.size()];
+    }
+
+    @Override
+    public void setTrue(@NotNull Collection<Block> blocks) {}
 }
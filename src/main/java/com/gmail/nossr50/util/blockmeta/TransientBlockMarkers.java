@@ -0,0 +1,271 @@
+package com.gmail.nossr50.util.blockmeta;
+
+import com.gmail.nossr50.mcMMO;
+import com.gmail.nossr50.util.scheduler.TickTimer;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Short lived markers on blocks, such as bonus drops and recently replanted crops.
+ * <p>
+ * Replaces Bukkit block metadata, which is kept in one global store keyed by strings and is never cleaned up.
+ * Markers are kept per world and chunk in flat arrays, they are dropped when their chunk or world unloads
+ * and expire after {@link #MARKER_TTL_TICKS} ticks in case nothing removes them.
+ * Main thread only.
+ */
+public class TransientBlockMarkers extends TickTimer {
+    // Long enough for chorus trees to finish breaking and replanted crops to grow
+    private static final long MARKER_TTL_TICKS = 20 * 60;
+    private static final long SWEEP_INTERVAL_TICKS = 20 * 60;
+
+    private static final int FLAG_RECENTLY_REPLANTED = 1;
+
+    // World UUID -> chunk key -> markers
+    private final Map<UUID, Map<Long, ChunkMarkers>> worlds = new HashMap<>();
+
+    /**
+     * Mark a block to drop extra copies of its items.
+     *
+     * @param blockState the block
+     * @param amount amount of extra drops
+     */
+    public void setBonusDrops(@NotNull BlockState blockState, int amount) {
+        ChunkMarkers chunkMarkers = getChunkMarkers(blockState.getWorld(), blockState.getX() >> 4, blockState.getZ() >> 4, true);
+        chunkMarkers.setBonusDrops(getLocalKey(blockState.getX(), blockState.getY(), blockState.getZ()), amount, getCurrentTick());
+    }
+
+    /**
+     * @param block the block
+     * @return amount of extra drops the block was marked with, 0 if none
+     */
+    public int getBonusDrops(@NotNull Block block) {
+        ChunkMarkers chunkMarkers = getChunkMarkers(block.getWorld(), block.getX() >> 4, block.getZ() >> 4, false);
+        return chunkMarkers == null ? 0 : chunkMarkers.getBonusDrops(getLocalKey(block.getX(), block.getY(), block.getZ()), getCurrentTick());
+    }
+
+    public void removeBonusDrops(@NotNull Block block) {
+        ChunkMarkers chunkMarkers = getChunkMarkers(block.getWorld(), block.getX() >> 4, block.getZ() >> 4, false);
+
+        if (chunkMarkers != null) {
+            chunkMarkers.setBonusDrops(getLocalKey(block.getX(), block.getY(), block.getZ()), 0, getCurrentTick());
+        }
+    }
+
+    /**
+     * Mark or unmark a crop as recently replanted, recently replanted crops are protected from being broken.
+     *
+     * @param block the crop
+     * @param recentlyReplanted whether the crop was recently replanted
+     */
+    public void setRecentlyReplanted(@NotNull Block block, boolean recentlyReplanted) {
+        ChunkMarkers chunkMarkers = getChunkMarkers(block.getWorld(), block.getX() >> 4, block.getZ() >> 4, recentlyReplanted);
+
+        if (chunkMarkers != null) {
+            chunkMarkers.setFlag(getLocalKey(block.getX(), block.getY(), block.getZ()), FLAG_RECENTLY_REPLANTED, recentlyReplanted, getCurrentTick());
+        }
+    }
+
+    public boolean isRecentlyReplanted(@NotNull Block block) {
+        ChunkMarkers chunkMarkers = getChunkMarkers(block.getWorld(), block.getX() >> 4, block.getZ() >> 4, false);
+        return chunkMarkers != null && chunkMarkers.hasFlag(getLocalKey(block.getX(), block.getY(), block.getZ()), FLAG_RECENTLY_REPLANTED, getCurrentTick());
+    }
+
+    public void chunkUnloaded(int cx, int cz, @NotNull World world) {
+        Map<Long, ChunkMarkers> chunks = worlds.get(world.getUID());
+
+        if (chunks != null) {
+            chunks.remove(getChunkKey(cx, cz));
+        }
+    }
+
+    public void unloadWorld(@NotNull World world) {
+        worlds.remove(world.getUID());
+    }
+
+    /**
+     * Drop expired markers and empty chunks.
+     */
+    @Override
+    public void run() {
+        long currentTick = getCurrentTick();
+
+        for (Map<Long, ChunkMarkers> chunks : worlds.values()) {
+            Iterator<ChunkMarkers> iterator = chunks.values().iterator();
+
+            while (iterator.hasNext()) {
+                ChunkMarkers chunkMarkers = iterator.next();
+                chunkMarkers.removeExpired(currentTick);
+
+                if (chunkMarkers.size == 0) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        worlds.values().removeIf(Map::isEmpty);
+
+        if (!worlds.isEmpty()) {
+            schedule(SWEEP_INTERVAL_TICKS);
+        }
+    }
+
+    private ChunkMarkers getChunkMarkers(World world, int cx, int cz, boolean create) {
+        Map<Long, ChunkMarkers> chunks = worlds.get(world.getUID());
+
+        if (chunks == null) {
+            if (!create) {
+                return null;
+            }
+
+            chunks = new HashMap<>();
+            worlds.put(world.getUID(), chunks);
+        }
+
+        long chunkKey = getChunkKey(cx, cz);
+        ChunkMarkers chunkMarkers = chunks.get(chunkKey);
+
+        if (chunkMarkers == null && create) {
+            chunkMarkers = new ChunkMarkers();
+            chunks.put(chunkKey, chunkMarkers);
+
+            if (!isScheduled()) {
+                schedule(SWEEP_INTERVAL_TICKS);
+            }
+        }
+
+        return chunkMarkers;
+    }
+
+    private static long getCurrentTick() {
+        return mcMMO.getTickTimerWheel().getCurrentTick();
+    }
+
+    private static long getChunkKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Position of a block inside its chunk
+     */
+    private static int getLocalKey(int x, int y, int z) {
+        return (y << 8) | ((z & 15) << 4) | (x & 15);
+    }
+
+    /**
+     * Markers of a single chunk, there are only ever a few per chunk so they are searched linearly
+     */
+    private static final class ChunkMarkers {
+        private int[] keys = new int[4];
+        private int[] bonusDrops = new int[4];
+        private int[] flags = new int[4];
+        private long[] expiries = new long[4];
+        private int size = 0;
+
+        private int getBonusDrops(int key, long currentTick) {
+            int index = indexOf(key);
+            return index == -1 || expiries[index] <= currentTick ? 0 : bonusDrops[index];
+        }
+
+        private boolean hasFlag(int key, int flag, long currentTick) {
+            int index = indexOf(key);
+            return index != -1 && expiries[index] > currentTick && (flags[index] & flag) != 0;
+        }
+
+        private void setBonusDrops(int key, int amount, long currentTick) {
+            int index = getForUpdate(key, amount != 0, currentTick);
+
+            if (index != -1) {
+                bonusDrops[index] = amount;
+                removeIfEmpty(index);
+            }
+        }
+
+        private void setFlag(int key, int flag, boolean value, long currentTick) {
+            int index = getForUpdate(key, value, currentTick);
+
+            if (index != -1) {
+                flags[index] = value ? flags[index] | flag : flags[index] & ~flag;
+                removeIfEmpty(index);
+            }
+        }
+
+        /**
+         * Find or add the markers of a block and extend their expiry, expired markers are cleared first
+         */
+        private int getForUpdate(int key, boolean create, long currentTick) {
+            int index = indexOf(key);
+
+            if (index == -1) {
+                if (!create) {
+                    return -1;
+                }
+
+                index = add(key);
+            } else if (expiries[index] <= currentTick) {
+                bonusDrops[index] = 0;
+                flags[index] = 0;
+            }
+
+            expiries[index] = currentTick + MARKER_TTL_TICKS;
+            return index;
+        }
+
+        private void removeExpired(long currentTick) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (expiries[i] <= currentTick) {
+                    remove(i);
+                }
+            }
+        }
+
+        private int indexOf(int key) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == key) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        private int add(int key) {
+            if (size == keys.length) {
+                int capacity = size * 2;
+
+                keys = Arrays.copyOf(keys, capacity);
+                bonusDrops = Arrays.copyOf(bonusDrops, capacity);
+                flags = Arrays.copyOf(flags, capacity);
+                expiries = Arrays.copyOf(expiries, capacity);
+            }
+
+            keys[size] = key;
+            bonusDrops[size] = 0;
+            flags[size] = 0;
+            expiries[size] = 0;
+            return size++;
+        }
+
+        private void removeIfEmpty(int index) {
+            if (bonusDrops[index] == 0 && flags[index] == 0) {
+                remove(index);
+            }
+        }
+
+        private void remove(int index) {
+            // Order doesn't matter, move the last marker into the gap
+            size--;
+            keys[index] = keys[size];
+            bonusDrops[index] = bonusDrops[size];
+            flags[index] = flags[size];
+            expiries[index] = expiries[size];
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+
 /**
  * Contains blockstore methods that are safe for external plugins to access.
  * An instance can be retrieved via {@link mcMMO#getPlaceStore() mcMMO.getPlaceStore()}
@@ -53,4 +55,32 @@ public interface UserBlockTracker {
      * @param blockState BlockState location to set
      */
     void setFalse(@NotNull BlockState blockState);
+
+    /**
+     * Check several block locations at once
+     *
+     * @param blocks Block locations to check
+     * @return for each block in iteration order, true if its location is set to true
+     */
+    default boolean[] isTrueBatch(@NotNull Collection<Block> blocks) {
+        boolean[] result = new boolean[blocks.size()];
+        int i = 0;
+
+        for (Block block : blocks) {
+            result[i++] = isTrue(block);
+        }
+
+        return result;
+    }
+
+    /**
+     * Set several block locations to true at once
+     *
+     * @param blocks Block locations to set
+     */
+    default void setTrue(@NotNull Collection<Block> blocks) {
+        for (Block block : blocks) {
+            setTrue(block);
+        }
+    }
 }
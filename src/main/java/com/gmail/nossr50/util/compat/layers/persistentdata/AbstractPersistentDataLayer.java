@@ -83,6 +83,32 @@ public abstract class AbstractPersistentDataLayer extends AbstractCompatibilityL
      */
     public abstract boolean hasMobFlag(@NotNull MobMetaFlagType flag, @NotNull LivingEntity livingEntity);
 
+    /**
+     * Gets every mcMMO mob flag of a target {@link LivingEntity} at once, see {@link MobMetaFlagType#isSet(byte)}
+     * Layers backed by slow storage should cache this
+     * @param livingEntity the living entity to check for metadata
+     * @return a byte with the bit of every flag the mob has set
+     */
+    public byte getMobFlags(@NotNull LivingEntity livingEntity) {
+        byte mobFlags = 0;
+
+        for(MobMetaFlagType flag : MobMetaFlagType.values()) {
+            if(hasMobFlag(flag, livingEntity)) {
+                mobFlags |= flag.getMask();
+            }
+        }
+
+        return mobFlags;
+    }
+
+    /**
+     * Forget any cached mob flags of a target {@link LivingEntity}, used when it dies or is unloaded
+     * @param livingEntity the target living entity
+     */
+    public void invalidateMobFlags(@NotNull LivingEntity livingEntity) {
+        //Nothing cached by default
+    }
+
     /**
      * Whether or not a target {@link LivingEntity} has any mcMMO mob flags
      * @param livingEntity the living entity to check for metadata
@@ -7,5 +7,22 @@ public enum MobMetaFlagType {
     COTW_SUMMONED_MOB,
     PLAYER_BRED_MOB,
     PLAYER_TAMED_MOB,
-    EXPLOITED_ENDERMEN,
+    EXPLOITED_ENDERMEN;
+
+    /**
+     * The bit of this flag in the byte returned by {@link AbstractPersistentDataLayer#getMobFlags(org.bukkit.entity.LivingEntity)}
+     * @return the flag bit
+     */
+    public byte getMask() {
+        return (byte) (1 << ordinal());
+    }
+
+    /**
+     * Whether or not this flag is set in a mob flag byte
+     * @param mobFlags the flags of a mob
+     * @return true if this flag is set
+     */
+    public boolean isSet(byte mobFlags) {
+        return (mobFlags & getMask()) != 0;
+    }
 }
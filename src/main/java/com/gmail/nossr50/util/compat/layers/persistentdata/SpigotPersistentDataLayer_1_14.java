@@ -17,11 +17,13 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.EnumMap;
 import java.util.UUID;
+import java.util.WeakHashMap;
 
 public class SpigotPersistentDataLayer_1_14 extends AbstractPersistentDataLayer {
-
     private final @NotNull EnumMap<MobMetaFlagType, NamespacedKey> mobFlagKeyMap;
     private final @NotNull SpigotPersistentDataLayer_1_13 transientLayer;
+    //Entity -> flag byte, weak so entities which despawn without an event are dropped once they are collected
+    private final @NotNull WeakHashMap<LivingEntity, Byte> mobFlagCache = new WeakHashMap<>();
 
     public SpigotPersistentDataLayer_1_14() {
         mobFlagKeyMap = new EnumMap<>(MobMetaFlagType.class);
@@ -69,28 +71,48 @@ public class SpigotPersistentDataLayer_1_14 extends AbstractPersistentDataLayer
 
     @Override
     public boolean hasMobFlag(@NotNull MobMetaFlagType flag, @NotNull LivingEntity livingEntity) {
-        if(PersistentDataConfig.getInstance().isMobPersistent(flag)) {
-            return livingEntity.getPersistentDataContainer().has(mobFlagKeyMap.get(flag), PersistentDataType.BYTE);
-        } else {
-            return transientLayer.hasMobFlag(flag, livingEntity);
-        }
+        return flag.isSet(getMobFlags(livingEntity));
     }
 
     @Override
     public boolean hasMobFlags(@NotNull LivingEntity livingEntity) {
-        for(MobMetaFlagType currentFlag : MobMetaFlagType.values()) {
-            if(hasMobFlag(currentFlag, livingEntity)) {
-                return true;
+        return getMobFlags(livingEntity) != 0;
+    }
+
+    /**
+     * Resolves every flag of the mob once and caches the result until the mob dies, unloads or its flags change
+     */
+    @Override
+    public byte getMobFlags(@NotNull LivingEntity livingEntity) {
+        Byte cachedFlags = mobFlagCache.get(livingEntity);
+
+        if(cachedFlags != null) {
+            return cachedFlags;
+        }
+
+        byte mobFlags = 0;
+
+        for(MobMetaFlagType flag : MobMetaFlagType.values()) {
+            if(readMobFlag(flag, livingEntity)) {
+                mobFlags |= flag.getMask();
             }
         }
 
-        return false;
+        mobFlagCache.put(livingEntity, mobFlags);
+        return mobFlags;
+    }
+
+    @Override
+    public void invalidateMobFlags(@NotNull LivingEntity livingEntity) {
+        mobFlagCache.remove(livingEntity);
     }
 
     @Override
     public void addMobFlags(@NotNull LivingEntity sourceEntity, @NotNull LivingEntity targetEntity) {
+        byte sourceFlags = getMobFlags(sourceEntity);
+
         for(MobMetaFlagType flag : MobMetaFlagType.values()) {
-            if(hasMobFlag(flag, sourceEntity)) {
+            if(flag.isSet(sourceFlags)) {
                 flagMetadata(flag, targetEntity);
             }
         }
@@ -98,26 +120,43 @@ public class SpigotPersistentDataLayer_1_14 extends AbstractPersistentDataLayer
 
     @Override
     public void flagMetadata(@NotNull MobMetaFlagType flag, @NotNull LivingEntity livingEntity) {
+        if(hasMobFlag(flag, livingEntity)) {
+            return;
+        }
+
         if(PersistentDataConfig.getInstance().isMobPersistent(flag)) {
-            if(!hasMobFlag(flag, livingEntity)) {
-                PersistentDataContainer persistentDataContainer = livingEntity.getPersistentDataContainer();
-                persistentDataContainer.set(mobFlagKeyMap.get(flag), PersistentDataType.BYTE, SIMPLE_FLAG_VALUE);
-            }
+            PersistentDataContainer persistentDataContainer = livingEntity.getPersistentDataContainer();
+            persistentDataContainer.set(mobFlagKeyMap.get(flag), PersistentDataType.BYTE, SIMPLE_FLAG_VALUE);
         } else {
             transientLayer.flagMetadata(flag, livingEntity);
         }
+
+        //hasMobFlag cached the flags above
+        mobFlagCache.put(livingEntity, (byte) (mobFlagCache.get(livingEntity) | flag.getMask()));
     }
 
     @Override
     public void removeMobFlag(@NotNull MobMetaFlagType flag, @NotNull LivingEntity livingEntity) {
+        if(!hasMobFlag(flag, livingEntity)) {
+            return;
+        }
+
         if(PersistentDataConfig.getInstance().isMobPersistent(flag)) {
-            if(hasMobFlag(flag, livingEntity)) {
-                PersistentDataContainer persistentDataContainer = livingEntity.getPersistentDataContainer();
-                persistentDataContainer.remove(mobFlagKeyMap.get(flag));
-            }
+            PersistentDataContainer persistentDataContainer = livingEntity.getPersistentDataContainer();
+            persistentDataContainer.remove(mobFlagKeyMap.get(flag));
         } else {
             transientLayer.removeMobFlag(flag, livingEntity);
         }
+
+        mobFlagCache.put(livingEntity, (byte) (mobFlagCache.get(livingEntity) & ~flag.getMask()));
+    }
+
+    private boolean readMobFlag(@NotNull MobMetaFlagType flag, @NotNull LivingEntity livingEntity) {
+        if(PersistentDataConfig.getInstance().isMobPersistent(flag)) {
+            return livingEntity.getPersistentDataContainer().has(mobFlagKeyMap.get(flag), PersistentDataType.BYTE);
+        } else {
+            return transientLayer.hasMobFlag(flag, livingEntity);
+        }
     }
 
     @Override
@@ -64,21 +64,26 @@ public class ExperienceBarManager {
         experienceBarWrapper.showExperienceBar();
 
         //Setup Hide Bar Task
-        if(experienceBarHideTaskHashMap.get(primarySkillType) != null)
-        {
-            experienceBarHideTaskHashMap.get(primarySkillType).cancel();
-        }
-
-        scheduleHideTask(primarySkillType, plugin);
+        scheduleHideTask(primarySkillType);
     }
 
-    private void scheduleHideTask(PrimarySkillType primarySkillType, Plugin plugin) {
-        if(alwaysVisible.contains(primarySkillType))
+    private void scheduleHideTask(PrimarySkillType primarySkillType) {
+        ExperienceBarHideTask experienceBarHideTask = experienceBarHideTaskHashMap.get(primarySkillType);
+
+        if(alwaysVisible.contains(primarySkillType)) {
+            if(experienceBarHideTask != null)
+                experienceBarHideTask.cancel();
+
             return;
+        }
 
-        ExperienceBarHideTask experienceBarHideTask = new ExperienceBarHideTask(this, mcMMOPlayer, primarySkillType);
-        experienceBarHideTask.runTaskLater(plugin, 20* delaySeconds);
-        experienceBarHideTaskHashMap.put(primarySkillType, experienceBarHideTask);
+        //Each bar keeps one hide task which is pushed back on every update
+        if(experienceBarHideTask == null) {
+            experienceBarHideTask = new ExperienceBarHideTask(this, mcMMOPlayer, primarySkillType);
+            experienceBarHideTaskHashMap.put(primarySkillType, experienceBarHideTask);
+        }
+
+        experienceBarHideTask.schedule(20 * delaySeconds);
     }
 
     public void hideExperienceBar(PrimarySkillType primarySkillType)
@@ -87,11 +92,6 @@ public class ExperienceBarManager {
             experienceBars.get(primarySkillType).hideExperienceBar();
     }
 
-    public void clearTask(PrimarySkillType primarySkillType)
-    {
-        experienceBarHideTaskHashMap.remove(primarySkillType);
-    }
-
     public void disableAllBars() {
         for(PrimarySkillType primarySkillType : PrimarySkillType.values()) {
             xpBarSettingToggle(XPBarSettingTarget.HIDE, primarySkillType);
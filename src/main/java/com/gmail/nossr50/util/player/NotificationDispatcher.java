@@ -0,0 +1,237 @@
+package com.gmail.nossr50.util.player;
+
+import com.gmail.nossr50.config.AdvancedConfig;
+import com.gmail.nossr50.mcMMO;
+import com.gmail.nossr50.util.scheduler.TickTimer;
+import net.kyori.adventure.audience.MessageType;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Per player outbound queue for notifications.
+ * <p>
+ * Action bar messages overwrite each other on the client, so only the latest one of a tick is sent.
+ * Identical chat messages sent within a short window are merged into one, and every player has a budget
+ * of notification packets per tick. Messages over the budget are queued and drained on the following ticks,
+ * chat messages are only dropped when the queue of a player is full.
+ * Main thread only.
+ */
+public class NotificationDispatcher extends TickTimer {
+    private final Map<UUID, Outbox> outboxes = new HashMap<>();
+    // Outboxes with queued messages, drained on the next tick
+    private final Set<Outbox> backlog = new LinkedHashSet<>();
+
+    private long droppedMessages = 0;
+    private long mergedMessages = 0;
+
+    /**
+     * Send an action bar message, if one was already sent to the player this tick the message replaces any queued one.
+     *
+     * @param player target player
+     * @param message the message
+     */
+    public void sendActionBar(@NotNull Player player, @NotNull Component message) {
+        Outbox outbox = getOutbox(player);
+        outbox.rollOver();
+
+        if (outbox.pendingActionBar == null && outbox.actionBarTick != outbox.tick && outbox.hasBudget()) {
+            outbox.sendActionBar(message);
+            return;
+        }
+
+        if (outbox.pendingActionBar != null) {
+            mergedMessages++;
+        }
+
+        outbox.pendingActionBar = message;
+        queue(outbox);
+    }
+
+    /**
+     * Send a chat message, identical messages within the duplicate window are merged.
+     *
+     * @param player target player
+     * @param message the message
+     */
+    public void sendMessage(@NotNull Player player, @NotNull Component message) {
+        Outbox outbox = getOutbox(player);
+        outbox.rollOver();
+
+        if (outbox.isDuplicate(message)) {
+            mergedMessages++;
+            return;
+        }
+
+        if (outbox.pendingMessages.isEmpty() && outbox.hasBudget()) {
+            outbox.sendMessage(message);
+            return;
+        }
+
+        if (outbox.pendingMessages.size() >= AdvancedConfig.getInstance().getNotificationMaxQueuedMessages()) {
+            droppedMessages++;
+            return;
+        }
+
+        outbox.pendingMessages.add(message);
+        outbox.remember(message);
+        queue(outbox);
+    }
+
+    /**
+     * Forget a player and anything still queued for them.
+     *
+     * @param player the player who logged out
+     */
+    public void removePlayer(@NotNull Player player) {
+        Outbox outbox = outboxes.remove(player.getUniqueId());
+
+        if (outbox != null && backlog.remove(outbox)) {
+            droppedMessages += outbox.getPendingCount();
+        }
+    }
+
+    /**
+     * @return number of messages dropped because a player's queue was full or they went offline
+     */
+    public long getDroppedMessages() {
+        return droppedMessages;
+    }
+
+    /**
+     * @return number of messages merged into another one, replaced action bar messages and duplicate chat messages
+     */
+    public long getMergedMessages() {
+        return mergedMessages;
+    }
+
+    @Override
+    public void run() {
+        Iterator<Outbox> iterator = backlog.iterator();
+
+        while (iterator.hasNext()) {
+            Outbox outbox = iterator.next();
+
+            if (!outbox.player.isOnline()) {
+                droppedMessages += outbox.getPendingCount();
+                outboxes.remove(outbox.player.getUniqueId());
+                iterator.remove();
+                continue;
+            }
+
+            outbox.rollOver();
+            outbox.drain();
+
+            if (outbox.getPendingCount() == 0) {
+                iterator.remove();
+            }
+        }
+
+        if (!backlog.isEmpty()) {
+            schedule(1);
+        }
+    }
+
+    private Outbox getOutbox(Player player) {
+        Outbox outbox = outboxes.get(player.getUniqueId());
+
+        // Players who relogged get a new Player instance
+        if (outbox == null || outbox.player != player) {
+            if (outbox != null) {
+                backlog.remove(outbox);
+            }
+
+            outbox = new Outbox(player);
+            outboxes.put(player.getUniqueId(), outbox);
+        }
+
+        return outbox;
+    }
+
+    private void queue(Outbox outbox) {
+        backlog.add(outbox);
+
+        if (!isScheduled()) {
+            schedule(1);
+        }
+    }
+
+    private static final class Outbox {
+        private final Player player;
+        private final ArrayDeque<Component> pendingMessages = new ArrayDeque<>();
+        // Message -> tick it was last sent or queued, oldest first
+        private final LinkedHashMap<Component, Long> recentMessages = new LinkedHashMap<>();
+        private Component pendingActionBar;
+
+        private long tick = -1;
+        private long actionBarTick = -1;
+        private int packetsThisTick = 0;
+
+        private Outbox(Player player) {
+            this.player = player;
+        }
+
+        private void rollOver() {
+            long currentTick = mcMMO.getTickTimerWheel().getCurrentTick();
+
+            if (currentTick == tick) {
+                return;
+            }
+
+            tick = currentTick;
+            packetsThisTick = 0;
+
+            long oldestTick = tick - AdvancedConfig.getInstance().getNotificationDuplicateWindow();
+            Iterator<Long> iterator = recentMessages.values().iterator();
+
+            while (iterator.hasNext() && iterator.next() <= oldestTick) {
+                iterator.remove();
+            }
+        }
+
+        private boolean hasBudget() {
+            return packetsThisTick < AdvancedConfig.getInstance().getNotificationPacketsPerTick();
+        }
+
+        private boolean isDuplicate(Component message) {
+            Long lastTick = recentMessages.get(message);
+            return lastTick != null && lastTick > tick - AdvancedConfig.getInstance().getNotificationDuplicateWindow();
+        }
+
+        private void drain() {
+            while (!pendingMessages.isEmpty() && hasBudget()) {
+                sendMessage(pendingMessages.poll());
+            }
+
+            if (pendingActionBar != null && actionBarTick != tick && hasBudget()) {
+                sendActionBar(pendingActionBar);
+                pendingActionBar = null;
+            }
+        }
+
+        private void sendActionBar(Component message) {
+            mcMMO.getAudiences().player(player).sendActionBar(message);
+            actionBarTick = tick;
+            packetsThisTick++;
+        }
+
+        private void sendMessage(Component message) {
+            mcMMO.getAudiences().player(player).sendMessage(Identity.nil(), message, MessageType.SYSTEM);
+            remember(message);
+            packetsThisTick++;
+        }
+
+        private void remember(Component message) {
+            // Re-insert so the oldest entries stay at the front
+            recentMessages.remove(message);
+            recentMessages.put(message, tick);
+        }
+
+        private int getPendingCount() {
+            return pendingMessages.size() + (pendingActionBar == null ? 0 : 1);
+        }
+    }
+}
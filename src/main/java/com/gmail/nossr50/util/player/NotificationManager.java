@@ -18,7 +18,6 @@ import com.gmail.nossr50.util.sounds.SoundType;
 import com.gmail.nossr50.util.text.McMMOMessageType;
 import com.gmail.nossr50.util.text.TextComponentFactory;
 import net.kyori.adventure.audience.Audience;
-import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.HoverEvent;
@@ -38,6 +37,16 @@ public class NotificationManager {
     public static final String HEX_BEIGE_COLOR = "#c2a66e";
     public static final String HEX_LIME_GREEN_COLOR = "#8ec26e";
 
+    private static final NotificationDispatcher dispatcher = new NotificationDispatcher();
+
+    /**
+     * Notifications sent through the dispatcher are coalesced and rate limited per player
+     * @return the notification dispatcher
+     */
+    public static @NotNull NotificationDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
     /**
      * Sends players notifications from mcMMO
      * Does so by sending out an event so other plugins can cancel it
@@ -117,20 +126,18 @@ public class NotificationManager {
         if (customEvent.isCancelled())
             return;
 
-        final Audience audience = mcMMO.getAudiences().player(player);
-
         //If the message is being sent to the action bar we need to check if the copy if a copy is sent to the chat system
         if(customEvent.getChatMessageType() == McMMOMessageType.ACTION_BAR)
         {
-            audience.sendActionBar(customEvent.getNotificationTextComponent());
+            dispatcher.sendActionBar(player, customEvent.getNotificationTextComponent());
 
             if(customEvent.isMessageAlsoBeingSentToChat())
             {
                 //Send copy to chat system
-                audience.sendMessage(Identity.nil(), customEvent.getNotificationTextComponent(), MessageType.SYSTEM);
+                dispatcher.sendMessage(player, customEvent.getNotificationTextComponent());
             }
         } else {
-            audience.sendMessage(Identity.nil(), customEvent.getNotificationTextComponent(), MessageType.SYSTEM);
+            dispatcher.sendMessage(player, customEvent.getNotificationTextComponent());
         }
     }
 
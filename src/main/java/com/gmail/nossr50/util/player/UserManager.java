@@ -15,6 +15,7 @@ import java.util.HashSet;
 public final class UserManager {
 
     private static HashSet<McMMOPlayer> playerDataSet; //Used to track players for sync saves on shutdown
+    private static int trackingGeneration = 0; //Changes whenever a profile is tracked or removed
 
     private UserManager() {}
 
@@ -30,6 +31,7 @@ public final class UserManager {
             playerDataSet = new HashSet<>();
 
         playerDataSet.add(mcMMOPlayer); //for sync saves on shutdown
+        trackingGeneration++;
     }
 
     public static void cleanupPlayer(McMMOPlayer mcMMOPlayer) {
@@ -46,6 +48,7 @@ public final class UserManager {
         McMMOPlayer mcMMOPlayer = getPlayer(player);
         mcMMOPlayer.cleanup();
         player.removeMetadata(mcMMO.playerDataKey, mcMMO.p);
+        trackingGeneration++;
 
         if(playerDataSet != null) {
             playerDataSet.remove(mcMMOPlayer); //Clear sync save tracking
@@ -151,6 +154,15 @@ public final class UserManager {
         return getPlayer(player);
     }
 
+    /**
+     * Caches of profiles can compare this to find out whether any profile was tracked or removed since they were filled.
+     *
+     * @return a number which changes whenever a profile is tracked or removed
+     */
+    public static int getTrackingGeneration() {
+        return trackingGeneration;
+    }
+
     public static boolean hasPlayerDataKey(Entity entity) {
         return entity != null && entity.hasMetadata(mcMMO.playerDataKey);
     }
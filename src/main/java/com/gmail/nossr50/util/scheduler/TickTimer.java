@@ -0,0 +1,40 @@
+package com.gmail.nossr50.util.scheduler;
+
+import com.gmail.nossr50.mcMMO;
+
+/**
+ * A delayed task run by the {@link TickTimerWheel} instead of the Bukkit scheduler.
+ * <p>
+ * A timer is its own handle, it can be cancelled and scheduled again as often as needed without allocating anything.
+ * Scheduling a timer which is already pending moves it to the new deadline. Main thread only.
+ */
+public abstract class TickTimer implements Runnable {
+    // Position in the wheel, managed by TickTimerWheel
+    TickTimer previous;
+    TickTimer next;
+    long deadline;
+    int level = -1;
+    int slot;
+
+    /**
+     * Run this timer after the given number of ticks, replacing any pending run.
+     *
+     * @param delayTicks ticks to wait, anything below 1 runs on the next tick
+     */
+    public void schedule(long delayTicks) {
+        mcMMO.getTickTimerWheel().schedule(this, delayTicks);
+    }
+
+    /**
+     * Cancel the pending run of this timer, if there is one.
+     */
+    public void cancel() {
+        if (isScheduled()) {
+            mcMMO.getTickTimerWheel().cancel(this);
+        }
+    }
+
+    public boolean isScheduled() {
+        return level != -1;
+    }
+}
@@ -0,0 +1,165 @@
+package com.gmail.nossr50.util.scheduler;
+
+import com.gmail.nossr50.mcMMO;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.logging.Level;
+
+/**
+ * Hierarchical timing wheel for mcMMO's short lived delayed tasks.
+ * <p>
+ * Every level has 64 slots, each slot of a level spans a full turn of the level below it.
+ * Timers are filed into the lowest level which can hold their delay and move down a level whenever the level
+ * below finishes a turn, so scheduling, cancelling and firing are all constant time.
+ * The wheel is advanced once per tick by {@link com.gmail.nossr50.runnables.ServerTickTask}, which means
+ * thousands of pending timers cost one Bukkit task. Main thread only.
+ */
+public class TickTimerWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    // Head of the timer list in every slot
+    private final TickTimer[][] wheel = new TickTimer[LEVELS][SLOTS];
+    private long currentTick = 0;
+    private int pendingTimers = 0;
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public int getPendingTimers() {
+        return pendingTimers;
+    }
+
+    /**
+     * Schedule a timer, moving it if it is already pending.
+     *
+     * @param timer the timer to schedule
+     * @param delayTicks ticks to wait, anything below 1 runs on the next tick
+     */
+    public void schedule(@NotNull TickTimer timer, long delayTicks) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+        }
+
+        timer.deadline = currentTick + Math.max(1, delayTicks);
+        insert(timer);
+    }
+
+    public void cancel(@NotNull TickTimer timer) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+        }
+    }
+
+    /**
+     * Move the wheel forward by one tick and run every timer which became due.
+     */
+    public void advance() {
+        currentTick++;
+
+        // Bring down the timers of every level whose lower level just finished a turn
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                break;
+            }
+
+            cascade(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+        }
+
+        int slot = (int) (currentTick & SLOT_MASK);
+        TickTimer timer;
+
+        // Timers scheduled while running always land in another slot, so this terminates
+        while ((timer = wheel[0][slot]) != null) {
+            unlink(timer);
+
+            if (timer.deadline > currentTick) {
+                insert(timer);
+                continue;
+            }
+
+            try {
+                timer.run();
+            }
+            catch (Throwable t) {
+                mcMMO.p.getLogger().log(Level.WARNING, "Timer " + timer.getClass().getName() + " generated an exception", t);
+            }
+        }
+    }
+
+    /**
+     * Drop every pending timer without running it.
+     */
+    public void clear() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                TickTimer timer;
+
+                while ((timer = wheel[level][slot]) != null) {
+                    unlink(timer);
+                }
+            }
+        }
+    }
+
+    private void cascade(int level, int slot) {
+        TickTimer timer;
+
+        while ((timer = wheel[level][slot]) != null) {
+            unlink(timer);
+            insert(timer);
+        }
+    }
+
+    private void insert(TickTimer timer) {
+        long delay = Math.max(0, timer.deadline - currentTick);
+        int level = 0;
+
+        while (level < LEVELS - 1 && delay >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+
+        int slot;
+
+        if (delay >= (1L << (SLOT_BITS * LEVELS))) {
+            // Beyond the range of the wheel, park it in the last slot of the top level to be filed again next turn
+            slot = (int) (((currentTick >>> (SLOT_BITS * level)) - 1) & SLOT_MASK);
+        }
+        else {
+            slot = (int) ((timer.deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        }
+
+        timer.level = level;
+        timer.slot = slot;
+        timer.previous = null;
+        timer.next = wheel[level][slot];
+
+        if (timer.next != null) {
+            timer.next.previous = timer;
+        }
+
+        wheel[level][slot] = timer;
+        pendingTimers++;
+    }
+
+    private void unlink(TickTimer timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        }
+        else {
+            wheel[timer.level][timer.slot] = timer.next;
+        }
+
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+
+        timer.previous = null;
+        timer.next = null;
+        timer.level = -1;
+        pendingTimers--;
+    }
+}
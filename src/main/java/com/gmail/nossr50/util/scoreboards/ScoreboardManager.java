@@ -136,7 +136,11 @@ public class ScoreboardManager {
         abilityLabelsSkill = abilityLabelSkillBuilder.build();
     }
 
-    private static final List<String> dirtyPowerLevels = new ArrayList<>();
+    // Shared power level model, every board is diffed against it
+    private static final Map<String, Integer> POWER_LEVELS = new HashMap<>();
+    private static final Set<String> dirtyPowerLevels = new LinkedHashSet<>();
+    // Boards which still have power level scores to send
+    private static final Set<ScoreboardWrapper> pendingPowerLevelBoards = new LinkedHashSet<>();
 
     public enum SidebarType {
         NONE,
@@ -195,10 +199,18 @@ public class ScoreboardManager {
 
         if(getWrapper(player) != null) {
             ScoreboardWrapper wrapper = PLAYER_SCOREBOARDS.remove(player.getName());
+            pendingPowerLevelBoards.remove(wrapper);
+
             if(wrapper.revertTask != null) {
                 wrapper.revertTask.cancel();
             }
         }
+
+        POWER_LEVELS.remove(player.getName());
+
+        for (ScoreboardWrapper wrapper : PLAYER_SCOREBOARDS.values()) {
+            wrapper.forgetPowerLevel(player.getName());
+        }
     }
 
     // Called in onDisable()
@@ -213,6 +225,7 @@ public class ScoreboardManager {
     // Called by ScoreboardWrapper when its Player logs off and an action tries to be performed
     public static void cleanup(ScoreboardWrapper wrapper) {
         PLAYER_SCOREBOARDS.remove(wrapper.playerName);
+        pendingPowerLevelBoards.remove(wrapper);
 
         if (wrapper.revertTask != null) {
             wrapper.revertTask.cancel();
@@ -243,7 +256,7 @@ public class ScoreboardManager {
                 }
             }
 
-            if (Config.getInstance().getPowerLevelTagsEnabled() && !dirtyPowerLevels.contains(playerName)) {
+            if (Config.getInstance().getPowerLevelTagsEnabled()) {
                 dirtyPowerLevels.add(playerName);
             }
 
@@ -439,6 +452,11 @@ public class ScoreboardManager {
     // **** Helper methods **** //
 
     /**
+     * Refresh the shared power level model from the dirty players, then send the changed scores to each board.
+     * <p>
+     * Boards only receive scores which differ from what they already show, and no more than the configured
+     * packet budget is sent per heartbeat. Whatever is left over goes out on the next heartbeat.
+     *
      * @return false if power levels are disabled
      */
     public static boolean powerLevelHeartbeat() {
@@ -448,27 +466,68 @@ public class ScoreboardManager {
             return false; // indicates
         }
 
-        for (String playerName : dirtyPowerLevels) {
-            McMMOPlayer mcMMOPlayer = UserManager.getPlayer(playerName);
+        if (!dirtyPowerLevels.isEmpty()) {
+            List<String> changedPowerLevels = new ArrayList<>(dirtyPowerLevels.size());
 
-            if (mcMMOPlayer == null) {
-                continue;
-            }
+            for (String playerName : dirtyPowerLevels) {
+                McMMOPlayer mcMMOPlayer = UserManager.getPlayer(playerName);
 
-            Player player = mcMMOPlayer.getPlayer();
-            int power = mcMMOPlayer.getPowerLevel();
+                if (mcMMOPlayer == null) {
+                    continue;
+                }
 
-            mainObjective.getScore(playerName).setScore(power);
+                int power = mcMMOPlayer.getPowerLevel();
+                Integer previousPower = POWER_LEVELS.put(playerName, power);
 
-            for (ScoreboardWrapper wrapper : PLAYER_SCOREBOARDS.values()) {
-                wrapper.updatePowerLevel(player, power);
+                if (previousPower == null || previousPower != power) {
+                    mainObjective.getScore(playerName).setScore(power);
+                    changedPowerLevels.add(playerName);
+                }
+            }
+
+            dirtyPowerLevels.clear();
+
+            if (!changedPowerLevels.isEmpty()) {
+                for (ScoreboardWrapper wrapper : PLAYER_SCOREBOARDS.values()) {
+                    wrapper.queuePowerLevels(changedPowerLevels);
+                    pendingPowerLevelBoards.add(wrapper);
+                }
             }
         }
 
-        dirtyPowerLevels.clear();
+        sendPowerLevels();
         return true;
     }
 
+    private static void sendPowerLevels() {
+        if (pendingPowerLevelBoards.isEmpty()) {
+            return;
+        }
+
+        int budget = Config.getInstance().getPowerLevelTagsPacketBudget();
+
+        if (budget == 0) {
+            budget = Integer.MAX_VALUE;
+        }
+
+        List<ScoreboardWrapper> unfinishedBoards = new ArrayList<>();
+        Iterator<ScoreboardWrapper> boardIterator = pendingPowerLevelBoards.iterator();
+
+        while (boardIterator.hasNext() && budget > 0) {
+            ScoreboardWrapper wrapper = boardIterator.next();
+            boardIterator.remove();
+
+            budget -= wrapper.sendPowerLevels(POWER_LEVELS, budget);
+
+            if (wrapper.hasPendingPowerLevels()) {
+                unfinishedBoards.add(wrapper);
+            }
+        }
+
+        // Boards which ran out of budget go to the back of the line
+        pendingPowerLevelBoards.addAll(unfinishedBoards);
+    }
+
     /**
      * Gets or creates the power level objective on the main targetBoard.
      * <p/>
@@ -26,8 +26,7 @@ import org.bukkit.scoreboard.Objective;
 import org.bukkit.scoreboard.Score;
 import org.bukkit.scoreboard.Scoreboard;
 
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 public class ScoreboardWrapper {
     public static final String SIDE_OBJECTIVE = "mcMMO_sideObjective";
@@ -51,6 +50,10 @@ public class ScoreboardWrapper {
     private PlayerProfile targetProfile = null;
     public int leaderboardPage = -1;
 
+    // Power level scores this board already shows, and the players whose score may need sending
+    private final Map<String, Integer> sentPowerLevels = new HashMap<>();
+    private final Set<String> pendingPowerLevels = new LinkedHashSet<>();
+
     public ScoreboardWrapper(Player player, Scoreboard scoreboard) {
         this.player = player;
         this.playerName = player.getName();
@@ -64,7 +67,11 @@ public class ScoreboardWrapper {
             powerObjective.setDisplaySlot(DisplaySlot.BELOW_NAME);
 
             for (McMMOPlayer mcMMOPlayer : UserManager.getPlayers()) {
-                powerObjective.getScore(mcMMOPlayer.getProfile().getPlayerName()).setScore(mcMMOPlayer.getPowerLevel());
+                String name = mcMMOPlayer.getProfile().getPlayerName();
+                int power = mcMMOPlayer.getPowerLevel();
+
+                powerObjective.getScore(name).setScore(power);
+                sentPowerLevels.put(name, power);
             }
         }
     }
@@ -597,5 +604,53 @@ public class ScoreboardWrapper {
 
     public void updatePowerLevel(Player player, int newPowerLevel) {
         powerObjective.getScore(player.getName()).setScore(newPowerLevel);
+        sentPowerLevels.put(player.getName(), newPowerLevel);
+    }
+
+    void queuePowerLevels(Collection<String> playerNames) {
+        pendingPowerLevels.addAll(playerNames);
+    }
+
+    boolean hasPendingPowerLevels() {
+        return !pendingPowerLevels.isEmpty();
+    }
+
+    /**
+     * Forget what this board knows about the power level of a player who left.
+     *
+     * @param playerName the player
+     */
+    void forgetPowerLevel(String playerName) {
+        sentPowerLevels.remove(playerName);
+        pendingPowerLevels.remove(playerName);
+    }
+
+    /**
+     * Send the queued power levels which differ from what this board already shows.
+     *
+     * @param powerLevels the shared power level model
+     * @param budget the most scores to send
+     * @return the number of scores sent
+     */
+    int sendPowerLevels(Map<String, Integer> powerLevels, int budget) {
+        int sent = 0;
+        Iterator<String> iterator = pendingPowerLevels.iterator();
+
+        while (iterator.hasNext() && sent < budget) {
+            String name = iterator.next();
+            iterator.remove();
+
+            Integer power = powerLevels.get(name);
+
+            if (power == null || power.equals(sentPowerLevels.get(name))) {
+                continue;
+            }
+
+            powerObjective.getScore(name).setScore(power);
+            sentPowerLevels.put(name, power);
+            sent++;
+        }
+
+        return sent;
     }
 }
@@ -24,8 +24,8 @@ import com.gmail.nossr50.util.compat.layers.persistentdata.AbstractPersistentDat
 import com.gmail.nossr50.util.compat.layers.persistentdata.MobMetaFlagType;
 import com.gmail.nossr50.util.player.NotificationManager;
 import com.gmail.nossr50.util.player.UserManager;
+import com.gmail.nossr50.util.scheduler.TickTimer;
 import com.google.common.collect.ImmutableMap;
-import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.Material;
 import org.bukkit.attribute.Attribute;
@@ -48,6 +48,8 @@ import java.util.List;
 import java.util.Map;
 
 public final class CombatUtils {
+    // Collects the combat XP of every hit in a tick and awards it on the next one
+    private static final AwardCombatXpTask awardCombatXpTask = new AwardCombatXpTask();
 
     private CombatUtils() {}
 
@@ -734,7 +736,7 @@ public final class CombatUtils {
     }
 
     /**
-     * Start the task that gives combat XP.
+     * Queue a hit for the task that gives combat XP.
      *
      * @param mcMMOPlayer The attacking player
      * @param target The defending entity
@@ -745,7 +747,7 @@ public final class CombatUtils {
     }
 
     /**
-     * Start the task that gives combat XP.
+     * Queue a hit for the task that gives combat XP.
      *
      * @param mcMMOPlayer The attacking player
      * @param target The defending entity
@@ -803,17 +805,19 @@ public final class CombatUtils {
                 }
             }
 
-            if(getPersistentData().hasMobFlag(MobMetaFlagType.COTW_SUMMONED_MOB, target)) {
+            byte mobFlags = getPersistentData().getMobFlags(target);
+
+            if(MobMetaFlagType.COTW_SUMMONED_MOB.isSet(mobFlags)) {
                 baseXP = 0;
-            } else if(getPersistentData().hasMobFlag(MobMetaFlagType.MOB_SPAWNER_MOB, target) || target.hasMetadata("ES")) {
+            } else if(MobMetaFlagType.MOB_SPAWNER_MOB.isSet(mobFlags) || target.hasMetadata("ES")) {
                 baseXP *= ExperienceConfig.getInstance().getSpawnedMobXpMultiplier();
-            } else if(getPersistentData().hasMobFlag(MobMetaFlagType.NETHER_PORTAL_MOB, target)) {
+            } else if(MobMetaFlagType.NETHER_PORTAL_MOB.isSet(mobFlags)) {
                 baseXP *= ExperienceConfig.getInstance().getNetherPortalXpMultiplier();
-            } else if(getPersistentData().hasMobFlag(MobMetaFlagType.EGG_MOB, target)) {
+            } else if(MobMetaFlagType.EGG_MOB.isSet(mobFlags)) {
                 baseXP *= ExperienceConfig.getInstance().getEggXpMultiplier();
-            } else if (getPersistentData().hasMobFlag(MobMetaFlagType.PLAYER_BRED_MOB, target)) {
+            } else if (MobMetaFlagType.PLAYER_BRED_MOB.isSet(mobFlags)) {
                 baseXP *= ExperienceConfig.getInstance().getBredMobXpMultiplier();
-            } else if(getPersistentData().hasMobFlag(MobMetaFlagType.PLAYER_TAMED_MOB, target)) {
+            } else if(MobMetaFlagType.PLAYER_TAMED_MOB.isSet(mobFlags)) {
                 baseXP *= ExperienceConfig.getInstance().getTamedMobXpMultiplier();
             }
 
@@ -824,7 +828,7 @@ public final class CombatUtils {
         baseXP *= multiplier;
 
         if (baseXP != 0) {
-            new AwardCombatXpTask(mcMMOPlayer, primarySkillType, baseXP, target, xpGainReason).runTaskLater(mcMMO.p, 0);
+            awardCombatXpTask.queueXp(mcMMOPlayer, primarySkillType, baseXP, target, xpGainReason);
         }
     }
 
@@ -1092,6 +1096,11 @@ public final class CombatUtils {
      * @param entity the projectile
      */
     public static void delayArrowMetaCleanup(@NotNull Projectile entity) {
-        Bukkit.getServer().getScheduler().runTaskLater(mcMMO.p, () -> { cleanupArrowMetadata(entity);}, 20*60);
+        new TickTimer() {
+            @Override
+            public void run() {
+                cleanupArrowMetadata(entity);
+            }
+        }.schedule(60 * Misc.TICK_CONVERSION_FACTOR);
     }
 }
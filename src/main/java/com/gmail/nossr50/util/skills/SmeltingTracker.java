@@ -8,17 +8,34 @@ import com.gmail.nossr50.util.player.UserManager;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
 import org.bukkit.block.Furnace;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.FurnaceInventory;
 import org.bukkit.inventory.Inventory;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
+/**
+ * Tracks who owns a furnace.
+ * <p>
+ * The owner is stored in the persistent data of the furnace, it is read once and then kept in memory per world,
+ * chunk and block position together with the loaded profile of the owner, so furnace events don't have to read the
+ * persistent data or look up offline players. The profile is resolved again after any player joined or left.
+ * Owners are forgotten when their chunk unloads, so furnaces changed without a block event are read again.
+ * Main thread only.
+ */
 public class SmeltingTracker {
+    private static final FurnaceOwner NO_OWNER = new FurnaceOwner(null);
 
-//    private final HashMap<Furnace, OfflinePlayer> furnaceOwners;
+    // World UUID -> chunk key -> packed block position -> owner
+    private final Map<UUID, Map<Long, Map<Long, FurnaceOwner>>> furnaceOwners = new HashMap<>();
 
     private void changeFurnaceOwnership(Furnace furnace, Player player) {
 
@@ -36,6 +53,7 @@ public class SmeltingTracker {
 
     private void setFurnaceOwner(Furnace furnace, Player player) {
         mcMMO.getCompatibilityManager().getPersistentDataLayer().setFurnaceOwner(furnace, player.getUniqueId());
+        getChunkOwners(furnace.getWorld(), furnace.getX(), furnace.getZ()).put(getBlockKey(furnace.getX(), furnace.getY(), furnace.getZ()), new FurnaceOwner(player.getUniqueId()));
     }
 
     private void printOwnershipGainDebug(Furnace furnace, McMMOPlayer mcMMOPlayer) {
@@ -66,7 +84,7 @@ public class SmeltingTracker {
     }
 
     public @Nullable OfflinePlayer getFurnaceOwner(Furnace furnace) {
-        UUID uuid = mcMMO.getCompatibilityManager().getPersistentDataLayer().getFurnaceOwner(furnace);
+        UUID uuid = getOwner(furnace).uuid;
 
         if(uuid != null) {
             return Bukkit.getOfflinePlayer(uuid);
@@ -75,6 +93,110 @@ public class SmeltingTracker {
         }
     }
 
+    /**
+     * Get the loaded profile of the owner of a furnace.
+     *
+     * @param furnaceBlock the furnace block, its state is only read the first time the furnace is seen
+     * @return the profile of the owner, null if the furnace has no owner or the owner is offline or not loaded
+     */
+    public @Nullable McMMOPlayer getFurnaceOwnerProfile(@NotNull Block furnaceBlock) {
+        Map<Long, FurnaceOwner> chunkOwners = getChunkOwners(furnaceBlock.getWorld(), furnaceBlock.getX(), furnaceBlock.getZ());
+        long blockKey = getBlockKey(furnaceBlock.getX(), furnaceBlock.getY(), furnaceBlock.getZ());
+        FurnaceOwner furnaceOwner = chunkOwners.get(blockKey);
+
+        if (furnaceOwner == null) {
+            BlockState blockState = furnaceBlock.getState();
+
+            if (!(blockState instanceof Furnace)) {
+                return null;
+            }
+
+            furnaceOwner = loadOwner((Furnace) blockState);
+            chunkOwners.put(blockKey, furnaceOwner);
+        }
+
+        return furnaceOwner.getProfile();
+    }
+
+    /**
+     * Forget the cached owner at a block, needs to be called whenever a furnace is placed or broken.
+     *
+     * @param block the block
+     */
+    public void forgetFurnace(@NotNull Block block) {
+        Map<Long, Map<Long, FurnaceOwner>> worldOwners = furnaceOwners.get(block.getWorld().getUID());
+
+        if (worldOwners == null) {
+            return;
+        }
+
+        long chunkKey = getChunkKey(block.getX() >> 4, block.getZ() >> 4);
+        Map<Long, FurnaceOwner> chunkOwners = worldOwners.get(chunkKey);
+
+        if (chunkOwners != null) {
+            chunkOwners.remove(getBlockKey(block.getX(), block.getY(), block.getZ()));
+
+            if (chunkOwners.isEmpty()) {
+                worldOwners.remove(chunkKey);
+            }
+        }
+    }
+
+    /**
+     * Forget all cached owners of a chunk.
+     *
+     * @param cx chunk x
+     * @param cz chunk z
+     * @param world the world of the chunk being unloaded
+     */
+    public void forgetChunk(int cx, int cz, @NotNull World world) {
+        Map<Long, Map<Long, FurnaceOwner>> worldOwners = furnaceOwners.get(world.getUID());
+
+        if (worldOwners != null) {
+            worldOwners.remove(getChunkKey(cx, cz));
+        }
+    }
+
+    /**
+     * Forget all cached owners of a world.
+     *
+     * @param world the world being unloaded
+     */
+    public void forgetWorld(@NotNull World world) {
+        furnaceOwners.remove(world.getUID());
+    }
+
+    private @NotNull FurnaceOwner getOwner(Furnace furnace) {
+        Map<Long, FurnaceOwner> chunkOwners = getChunkOwners(furnace.getWorld(), furnace.getX(), furnace.getZ());
+        long blockKey = getBlockKey(furnace.getX(), furnace.getY(), furnace.getZ());
+        FurnaceOwner furnaceOwner = chunkOwners.get(blockKey);
+
+        if (furnaceOwner == null) {
+            furnaceOwner = loadOwner(furnace);
+            chunkOwners.put(blockKey, furnaceOwner);
+        }
+
+        return furnaceOwner;
+    }
+
+    private @NotNull FurnaceOwner loadOwner(Furnace furnace) {
+        UUID uuid = mcMMO.getCompatibilityManager().getPersistentDataLayer().getFurnaceOwner(furnace);
+        return uuid == null ? NO_OWNER : new FurnaceOwner(uuid);
+    }
+
+    private @NotNull Map<Long, FurnaceOwner> getChunkOwners(World world, int x, int z) {
+        return furnaceOwners.computeIfAbsent(world.getUID(), uuid -> new HashMap<>())
+                .computeIfAbsent(getChunkKey(x >> 4, z >> 4), chunkKey -> new HashMap<>());
+    }
+
+    private static long getChunkKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private static long getBlockKey(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+    }
+
     @Nullable
     public Furnace getFurnaceFromInventory(Inventory inventory) {
         if (!(inventory instanceof FurnaceInventory)) {
@@ -85,7 +207,7 @@ public class SmeltingTracker {
     }
 
     public boolean isFurnaceOwned(Furnace furnace) {
-        return getFurnaceOwner(furnace) != null;
+        return getOwner(furnace).uuid != null;
     }
 
     public void processFurnaceOwnership(Furnace furnace, Player player) {
@@ -93,11 +215,40 @@ public class SmeltingTracker {
             return;
 
         //Don't swap ownership if its the same player
-        if(getFurnaceOwner(furnace) != null) {
-            if(getFurnaceOwner(furnace).getUniqueId().equals(player.getUniqueId()))
-                return;
-        }
+        if(player.getUniqueId().equals(getOwner(furnace).uuid))
+            return;
 
         changeFurnaceOwnership(furnace, player);
     }
+
+    /**
+     * The owner of a furnace, with the owner's profile as of the last join or quit of any player
+     */
+    private static final class FurnaceOwner {
+        private final @Nullable UUID uuid;
+        private @Nullable McMMOPlayer profile;
+        private int profileGeneration;
+
+        private FurnaceOwner(@Nullable UUID uuid) {
+            this.uuid = uuid;
+            this.profileGeneration = UserManager.getTrackingGeneration() - 1;
+        }
+
+        private @Nullable McMMOPlayer getProfile() {
+            if (uuid == null) {
+                return null;
+            }
+
+            int generation = UserManager.getTrackingGeneration();
+
+            if (profileGeneration != generation) {
+                Player player = Bukkit.getPlayer(uuid);
+
+                profile = player == null ? null : UserManager.getPlayer(player);
+                profileGeneration = generation;
+            }
+
+            return profile;
+        }
+    }
 }
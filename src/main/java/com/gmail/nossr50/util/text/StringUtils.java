@@ -72,24 +72,37 @@ public class StringUtils {
     }
 
     public static String getFriendlyConfigBlockDataString(BlockData data) {
-        switch(data.getMaterial()){
+        if (hasAgeInConfigString(data.getMaterial())) {
+            if (data instanceof Ageable) {
+                Ageable ageData = (Ageable) data;
+                if (ageData.getAge() == ageData.getMaximumAge()) {
+                    return getPrettyItemString(data.getMaterial()).replace(" ", "_") + "_Ripe";
+                }
+            }
+            return getPrettyItemString(data.getMaterial()).replace(" ", "_") + "_Ungrown";
+        }
+        return getPrettyItemString(data.getMaterial()).replace(" ", "_");
+    }
+
+    /**
+     * Whether the friendly config string of blocks of this material depends on their age
+     *
+     * @param material the block material
+     * @return true if the string ends in either _Ripe or _Ungrown
+     */
+    public static boolean hasAgeInConfigString(Material material) {
+        switch(material){
             case CHORUS_FLOWER:
             case COCOA:
             case WHEAT:
             case BEETROOTS:
             case CARROTS:
             case POTATOES:
-            case NETHER_WART: {
-                if (data instanceof Ageable) {
-                    Ageable ageData = (Ageable) data;
-                    if (ageData.getAge() == ageData.getMaximumAge()) {
-                        return getPrettyItemString(data.getMaterial()).replace(" ", "_") + "_Ripe";
-                    }
-                }
-                return getPrettyItemString(data.getMaterial()).replace(" ", "_") + "_Ungrown";
-            }
+            case NETHER_WART:
+                return true;
+            default:
+                return false;
         }
-        return getPrettyItemString(data.getMaterial()).replace(" ", "_");
     }
 
     public static String getFriendlyConfigMaterialString(Material data) {
@@ -2,21 +2,40 @@ package com.gmail.nossr50.worldguard;
 
 import com.gmail.nossr50.mcMMO;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
-import com.sk89q.worldedit.bukkit.BukkitPlayer;
+import com.sk89q.worldguard.LocalPlayer;
 import com.sk89q.worldguard.WorldGuard;
 import com.sk89q.worldguard.bukkit.WorldGuardPlugin;
+import com.sk89q.worldguard.protection.ApplicableRegionSet;
 import com.sk89q.worldguard.protection.flags.registry.FlagConflictException;
 import com.sk89q.worldguard.protection.flags.registry.FlagRegistry;
 import com.sk89q.worldguard.protection.regions.RegionQuery;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
 
 import static org.bukkit.Bukkit.getServer;
 
 public class WorldGuardManager {
+    private static final byte MAIN_FLAG = 1;
+    private static final byte XP_FLAG = 1 << 1;
+    private static final byte HARDCORE_FLAG = 1 << 2;
+    // WorldGuard has no event for region changes, cached flags are looked up again after this many ticks
+    private static final int REGION_CHECK_INTERVAL = 40;
+
     private static WorldGuardManager instance;
     private WorldGuardPlugin worldGuardPluginRef;
 
+    // Player -> flags at the block they were last checked in
+    private final Map<UUID, CachedFlags> flagCache = new HashMap<>();
+    private final Location scratchLocation = new Location(null, 0, 0, 0);
+
     public static WorldGuardManager getInstance() {
         if(instance == null)
             instance = new WorldGuardManager();
@@ -29,15 +48,7 @@ public class WorldGuardManager {
         if(player == null)
             return false;
 
-        BukkitPlayer localPlayer = BukkitAdapter.adapt(player);
-        com.sk89q.worldedit.util.Location loc = localPlayer.getLocation();
-
-        //WorldGuardPlugin worldGuard = getWorldGuard();
-        RegionQuery query = WorldGuard.getInstance().getPlatform().getRegionContainer().createQuery();
-
-        //ApplicableRegionSet set = query.getApplicableRegions(loc);
-
-        return query.testState(loc, WorldGuardPlugin.inst().wrapPlayer(player), WorldGuardFlags.MCMMO_ENABLE_WG_FLAG);
+        return (getFlags(player) & MAIN_FLAG) != 0;
     }
 
     public boolean hasXPFlag(Player player)
@@ -45,15 +56,7 @@ public class WorldGuardManager {
         if(player == null)
             return false;
 
-        BukkitPlayer localPlayer = BukkitAdapter.adapt(player);
-        com.sk89q.worldedit.util.Location loc = localPlayer.getLocation();
-
-        //WorldGuardPlugin worldGuard = getWorldGuard();
-        RegionQuery query = WorldGuard.getInstance().getPlatform().getRegionContainer().createQuery();
-
-        //ApplicableRegionSet set = query.getApplicableRegions(loc);
-
-        return query.testState(loc, WorldGuardPlugin.inst().wrapPlayer(player), WorldGuardFlags.MCMMO_XP_WG_FLAG);
+        return (getFlags(player) & XP_FLAG) != 0;
     }
 
     public boolean hasHardcoreFlag(Player player)
@@ -61,15 +64,59 @@ public class WorldGuardManager {
         if(player == null)
             return false;
 
-        BukkitPlayer localPlayer = BukkitAdapter.adapt(player);
-        com.sk89q.worldedit.util.Location loc = localPlayer.getLocation();
+        return (getFlags(player) & HARDCORE_FLAG) != 0;
+    }
 
-        //WorldGuardPlugin worldGuard = getWorldGuard();
+    /**
+     * Forget the cached flags of a player, used when they log out
+     *
+     * @param player target player
+     */
+    public void invalidate(@NotNull Player player) {
+        flagCache.remove(player.getUniqueId());
+    }
+
+    private byte getFlags(Player player) {
+        // The cache is only touched on the main thread
+        if (!Bukkit.isPrimaryThread()) {
+            return queryFlags(player, player.getLocation());
+        }
+
+        player.getLocation(scratchLocation);
+        long currentTick = mcMMO.getTickTimerWheel().getCurrentTick();
+        CachedFlags cachedFlags = flagCache.get(player.getUniqueId());
+
+        if (cachedFlags == null) {
+            cachedFlags = new CachedFlags();
+            flagCache.put(player.getUniqueId(), cachedFlags);
+        }
+        else if (cachedFlags.matches(scratchLocation, currentTick)) {
+            return cachedFlags.flags;
+        }
+
+        cachedFlags.update(scratchLocation, currentTick, queryFlags(player, scratchLocation));
+        return cachedFlags.flags;
+    }
+
+    /**
+     * Answer all mcMMO flags from a single region lookup
+     */
+    private byte queryFlags(Player player, Location location) {
         RegionQuery query = WorldGuard.getInstance().getPlatform().getRegionContainer().createQuery();
+        ApplicableRegionSet regions = query.getApplicableRegions(BukkitAdapter.adapt(location));
+        LocalPlayer localPlayer = WorldGuardPlugin.inst().wrapPlayer(player);
+        byte flags = 0;
 
-        //ApplicableRegionSet set = query.getApplicableRegions(loc);
+        if (regions.testState(localPlayer, WorldGuardFlags.MCMMO_ENABLE_WG_FLAG))
+            flags |= MAIN_FLAG;
 
-        return query.testState(loc, WorldGuardPlugin.inst().wrapPlayer(player), WorldGuardFlags.MCMMO_HARDCORE_WG_FLAG);
+        if (regions.testState(localPlayer, WorldGuardFlags.MCMMO_XP_WG_FLAG))
+            flags |= XP_FLAG;
+
+        if (regions.testState(localPlayer, WorldGuardFlags.MCMMO_HARDCORE_WG_FLAG))
+            flags |= HARDCORE_FLAG;
+
+        return flags;
     }
 
     private WorldGuardPlugin getWorldGuard() {
@@ -108,5 +155,31 @@ public class WorldGuardManager {
         }
     }
 
+    private static final class CachedFlags {
+        private World world;
+        private int blockX;
+        private int blockY;
+        private int blockZ;
+        private long checkedTick;
+        private byte flags;
+
+        private boolean matches(Location location, long currentTick) {
+            return location.getWorld() == world
+                    && location.getBlockX() == blockX
+                    && location.getBlockY() == blockY
+                    && location.getBlockZ() == blockZ
+                    && currentTick - checkedTick < REGION_CHECK_INTERVAL;
+        }
+
+        private void update(Location location, long currentTick, byte flags) {
+            this.world = location.getWorld();
+            this.blockX = location.getBlockX();
+            this.blockY = location.getBlockY();
+            this.blockZ = location.getBlockZ();
+            this.checkedTick = currentTick;
+            this.flags = flags;
+        }
+    }
+
 
 }
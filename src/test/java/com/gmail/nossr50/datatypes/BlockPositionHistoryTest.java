@@ -0,0 +1,80 @@
+package com.gmail.nossr50.datatypes;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.mockito.Mockito.mock;
+
+public class BlockPositionHistoryTest {
+    @Test
+    public void testRemovesOldestElement() {
+        BlockPositionHistory history = new BlockPositionHistory(2);
+        Location locationA = new Location(null, 0, 1, 2);
+        Location locationB = new Location(null, 1, 2, 3);
+        Location locationC = new Location(null, 2, 3, 4);
+
+        history.add(locationA);
+        history.add(locationB);
+        history.add(locationC);
+        Assert.assertFalse(history.contains(locationA));
+        Assert.assertTrue(history.contains(locationB));
+        Assert.assertTrue(history.contains(locationC));
+    }
+
+    @Test
+    public void testSupportsDuplicateElement() {
+        BlockPositionHistory history = new BlockPositionHistory(2);
+        Location locationA = new Location(null, 0, 1, 2);
+        Location locationB = new Location(null, 1, 2, 3);
+
+        history.add(locationA);
+        history.add(locationA);
+        history.add(locationB);
+        Assert.assertTrue(history.contains(locationA));
+        Assert.assertTrue(history.contains(locationB));
+        history.add(locationB);
+        Assert.assertFalse(history.contains(locationA));
+    }
+
+    @Test
+    public void testSeparatesWorlds() {
+        BlockPositionHistory history = new BlockPositionHistory(2);
+        World worldA = mock(World.class);
+        World worldB = mock(World.class);
+
+        history.add(worldA, 0, 1, 2);
+        Assert.assertTrue(history.contains(worldA, 0, 1, 2));
+        Assert.assertFalse(history.contains(worldB, 0, 1, 2));
+        Assert.assertFalse(history.contains(null, 0, 1, 2));
+    }
+
+    @Test
+    public void testUsesBlockCoordinates() {
+        BlockPositionHistory history = new BlockPositionHistory(2);
+
+        history.add(new Location(null, -0.5, 64.9, 10.2));
+        Assert.assertTrue(history.contains(null, -1, 64, 10));
+        Assert.assertFalse(history.contains(null, 0, 64, 10));
+    }
+
+    @Test
+    public void testMatchesBlockLocationHistory() {
+        BlockPositionHistory history = new BlockPositionHistory(50);
+        BlockLocationHistory expected = new BlockLocationHistory(50);
+        Random random = new Random(0);
+
+        for (int i = 0; i < 10000; i++) {
+            Location location = new Location(null, random.nextInt(16) - 8, random.nextInt(4), random.nextInt(16) - 8);
+
+            history.add(location);
+            expected.add(location);
+
+            Location probe = new Location(null, random.nextInt(16) - 8, random.nextInt(4), random.nextInt(16) - 8);
+            Assert.assertEquals(expected.contains(probe), history.contains(probe));
+        }
+    }
+}
@@ -14,6 +14,9 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.io.*;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.Mockito.mock;
@@ -160,6 +163,74 @@ public class ChunkStoreTest {
         Assert.assertTrue(chunkManager.isTrue(mockBlockA));
     }
 
+    @Test
+    public void testBatchSetTrueAcrossChunksAndRegions() {
+        ChunkManager chunkManager = new HashChunkManager();
+        // Neighbouring chunks, negative chunks, and both sides of the region boundaries at chunk 0 and chunk 32
+        List<Block> blocks = Arrays.asList(
+                mockBlock(0, 0, 0), mockBlock(15, 1, 15), mockBlock(16, 2, 0),
+                mockBlock(-1, 3, -1), mockBlock(-17, 4, 0),
+                mockBlock(511, 5, 0), mockBlock(512, 6, 0));
+
+        chunkManager.setTrue(blocks);
+
+        for (Block block : blocks) {
+            Assert.assertTrue(chunkManager.isTrue(block));
+        }
+
+        // Same columns at other heights, and the mirrored locations which share chunk offsets
+        Assert.assertFalse(chunkManager.isTrue(mockBlock(0, 1, 0)));
+        Assert.assertFalse(chunkManager.isTrue(mockBlock(-15, 1, -15)));
+        Assert.assertFalse(chunkManager.isTrue(mockBlock(512, 5, 0)));
+        Assert.assertFalse(chunkManager.isTrue(mockBlock(-512, 6, 0)));
+
+        // Every chunk is written to its own region file and read back
+        chunkManager.closeAll();
+        boolean[] reloaded = new HashChunkManager().isTrueBatch(blocks);
+
+        for (boolean value : reloaded) {
+            Assert.assertTrue(value);
+        }
+    }
+
+    @Test
+    public void testBatchIsTrueAcrossChunksAndRegions() {
+        ChunkManager chunkManager = new HashChunkManager();
+        chunkManager.setTrue(mockBlock(15, 1, 15));
+        chunkManager.setTrue(mockBlock(-1, 3, -1));
+        chunkManager.setTrue(mockBlock(512, 6, 0));
+
+        // Tracked and untracked blocks interleaved, the chunk at 16 and the region at -1024 have no chunkstore
+        List<Block> blocks = Arrays.asList(
+                mockBlock(15, 1, 15), mockBlock(16, 1, 15), mockBlock(15, 2, 15),
+                mockBlock(-1, 3, -1), mockBlock(-1024, 3, -1),
+                mockBlock(511, 6, 0), mockBlock(512, 6, 0));
+        boolean[] expected = {true, false, false, true, false, false, true};
+        boolean[] actual = chunkManager.isTrueBatch(blocks);
+
+        Assert.assertArrayEquals(expected, actual);
+
+        for (int i = 0; i < blocks.size(); i++) {
+            Assert.assertEquals(chunkManager.isTrue(blocks.get(i)), actual[i]);
+        }
+    }
+
+    @Test
+    public void testBatchCallsOnEmptyCollection() {
+        ChunkManager chunkManager = new HashChunkManager();
+        chunkManager.setTrue(Collections.<Block>emptyList());
+        Assert.assertEquals(0, chunkManager.isTrueBatch(Collections.<Block>emptyList()).length);
+    }
+
+    private @NotNull Block mockBlock(int x, int y, int z) {
+        Block mockBlock = mock(Block.class);
+        Mockito.when(mockBlock.getX()).thenReturn(x);
+        Mockito.when(mockBlock.getY()).thenReturn(y);
+        Mockito.when(mockBlock.getZ()).thenReturn(z);
+        Mockito.when(mockBlock.getWorld()).thenReturn(mockWorld);
+        return mockBlock;
+    }
+
     private interface Delegate {
         void run();
     }